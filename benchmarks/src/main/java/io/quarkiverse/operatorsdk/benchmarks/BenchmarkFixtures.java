@@ -0,0 +1,144 @@
+package io.quarkiverse.operatorsdk.benchmarks;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.javaoperatorsdk.operator.ReconcilerUtils;
+import io.javaoperatorsdk.operator.api.config.Cloner;
+import io.javaoperatorsdk.operator.api.monitoring.Metrics;
+import io.javaoperatorsdk.operator.processing.retry.GenericRetry;
+import io.quarkiverse.operatorsdk.runtime.CRDGenerationInfo;
+import io.quarkiverse.operatorsdk.runtime.ClonerStrategy;
+import io.quarkiverse.operatorsdk.runtime.DependentResourceSpecMetadata;
+import io.quarkiverse.operatorsdk.runtime.ExecutorType;
+import io.quarkiverse.operatorsdk.runtime.QuarkusCloner;
+import io.quarkiverse.operatorsdk.runtime.QuarkusConfigurationService;
+import io.quarkiverse.operatorsdk.runtime.QuarkusControllerConfiguration;
+import io.quarkiverse.operatorsdk.runtime.Version;
+
+/**
+ * Builds the objects the benchmarks operate on without going through the Quarkus build, mimicking what the extension
+ * records at build time.
+ */
+final class BenchmarkFixtures {
+    static final ObjectMapper MAPPER = Serialization.jsonMapper();
+
+    private BenchmarkFixtures() {
+    }
+
+    static Cloner noCloning() {
+        return QuarkusCloner.from(ClonerStrategy.NONE, Map.of(), Map.of(), Map.of(), MAPPER);
+    }
+
+    static String controllerName(int index) {
+        return "controller-" + index;
+    }
+
+    static String dependentName(int index) {
+        return "dependent-" + index;
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    static QuarkusControllerConfiguration<BenchmarkResource> controllerConfiguration(String name,
+            String reconcilerClassName, int dependents) {
+        final Map<String, DependentResourceSpecMetadata<?, ?, ?>> dependentsMetadata = new HashMap<>(dependents);
+        for (int i = 0; i < dependents; i++) {
+            final var dependentName = dependentName(i);
+            dependentsMetadata.put(dependentName, new DependentResourceSpecMetadata(ConfigMapDependent.class, null,
+                    dependentName, Set.of(), null, null, null, null, ConfigMap.class.getName()));
+        }
+
+        return new QuarkusControllerConfiguration<>(reconcilerClassName, name,
+                ReconcilerUtils.getResourceTypeName(BenchmarkResource.class), "v1", true, BenchmarkResource.class,
+                Set.of(), false, null, null, true, null, null, null, null, null,
+                GenericRetry.class, null, QuarkusControllerConfiguration.DefaultRateLimiter.class, null,
+                dependentsMetadata, null, false);
+    }
+
+    /**
+     * Creates a configuration service knowing about the specified number of controllers, the last of which being
+     * associated with {@link BenchmarkReconciler}, as would be the case when looking up a reconciler amongst many.
+     */
+    @SuppressWarnings("rawtypes")
+    static QuarkusConfigurationService configurationService(int controllers, int dependents, Cloner cloner) {
+        final var configurations = new HashMap<String, QuarkusControllerConfiguration>(controllers);
+        for (int i = 0; i < controllers; i++) {
+            final var name = controllerName(i);
+            final var reconcilerClassName = i == controllers - 1 ? BenchmarkReconciler.class.getName()
+                    : BenchmarkReconciler.class.getName() + i;
+            configurations.put(name, controllerConfiguration(name, reconcilerClassName, dependents));
+        }
+        return configurationService(configurations.values(), cloner);
+    }
+
+    @SuppressWarnings("rawtypes")
+    static QuarkusConfigurationService configurationService(Collection<QuarkusControllerConfiguration> configurations,
+            Cloner cloner) {
+        final var now = new Date();
+        return new QuarkusConfigurationService(
+                new Version(Version.UNKNOWN, now, Version.UNKNOWN, Version.UNKNOWN, Version.UNKNOWN, now),
+                configurations, null, new CRDGenerationInfo(false, false, Map.of(), Set.of(), 0),
+                10, 10, 0, Duration.ofMinutes(2), ExecutorType.PLATFORM, null, Map.of(), Map.of(), List.of(),
+                Metrics.NOOP, false, cloner, MAPPER, null, null, false, true);
+    }
+
+    static HasMetadata resource(String type) {
+        switch (type) {
+            case "ConfigMap":
+                return configMap();
+            case "CustomResource":
+                return customResource();
+            default:
+                throw new IllegalArgumentException("Unknown resource type: " + type);
+        }
+    }
+
+    static ConfigMap configMap() {
+        final var builder = new ConfigMapBuilder()
+                .withNewMetadata()
+                .withName("benchmark")
+                .withNamespace("default")
+                .withResourceVersion("12345")
+                .addToLabels("app.kubernetes.io/name", "benchmark")
+                .addToLabels("app.kubernetes.io/managed-by", "quarkus-operator-sdk")
+                .addToAnnotations("benchmarks.operatorsdk.quarkiverse.io/revision", "1")
+                .endMetadata();
+        for (int i = 0; i < 20; i++) {
+            builder.addToData("key-" + i, "value-" + i);
+        }
+        return builder.build();
+    }
+
+    static BenchmarkResource customResource() {
+        final var resource = new BenchmarkResource();
+        resource.getMetadata().setName("benchmark");
+        resource.getMetadata().setNamespace("default");
+        resource.getMetadata().setResourceVersion("12345");
+        resource.getMetadata().setLabels(Map.of("app.kubernetes.io/name", "benchmark"));
+        final var spec = new BenchmarkResource.Spec();
+        spec.setImage("quay.io/quarkiverse/benchmark:latest");
+        spec.setReplicas(3);
+        spec.setArgs(List.of("--verbose", "--port=8080"));
+        final var env = new HashMap<String, String>();
+        for (int i = 0; i < 10; i++) {
+            env.put("ENV_" + i, "value-" + i);
+        }
+        spec.setEnv(env);
+        resource.setSpec(spec);
+        final var status = new BenchmarkResource.Status();
+        status.setMessage("ready");
+        resource.setStatus(status);
+        return resource;
+    }
+}
@@ -0,0 +1,13 @@
+package io.quarkiverse.operatorsdk.benchmarks;
+
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.Reconciler;
+import io.javaoperatorsdk.operator.api.reconciler.UpdateControl;
+
+public class BenchmarkReconciler implements Reconciler<BenchmarkResource> {
+
+    @Override
+    public UpdateControl<BenchmarkResource> reconcile(BenchmarkResource resource, Context<BenchmarkResource> context) {
+        return UpdateControl.noUpdate();
+    }
+}
@@ -0,0 +1,8 @@
+package io.quarkiverse.operatorsdk.benchmarks;
+
+/**
+ * Mimics the naming of the subclasses that ArC generates for intercepted beans, which the configuration service needs to
+ * map back to the original reconciler class.
+ */
+public class BenchmarkReconciler_Subclass extends BenchmarkReconciler {
+}
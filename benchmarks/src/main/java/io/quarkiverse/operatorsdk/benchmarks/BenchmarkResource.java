@@ -0,0 +1,64 @@
+package io.quarkiverse.operatorsdk.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+
+import io.fabric8.kubernetes.client.CustomResource;
+import io.fabric8.kubernetes.model.annotation.Group;
+import io.fabric8.kubernetes.model.annotation.Version;
+
+@Group("benchmarks.operatorsdk.quarkiverse.io")
+@Version("v1")
+public class BenchmarkResource extends CustomResource<BenchmarkResource.Spec, BenchmarkResource.Status> {
+
+    public static class Spec {
+        private String image;
+        private int replicas;
+        private List<String> args;
+        private Map<String, String> env;
+
+        public String getImage() {
+            return image;
+        }
+
+        public void setImage(String image) {
+            this.image = image;
+        }
+
+        public int getReplicas() {
+            return replicas;
+        }
+
+        public void setReplicas(int replicas) {
+            this.replicas = replicas;
+        }
+
+        public List<String> getArgs() {
+            return args;
+        }
+
+        public void setArgs(List<String> args) {
+            this.args = args;
+        }
+
+        public Map<String, String> getEnv() {
+            return env;
+        }
+
+        public void setEnv(Map<String, String> env) {
+            this.env = env;
+        }
+    }
+
+    public static class Status {
+        private String message;
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+}
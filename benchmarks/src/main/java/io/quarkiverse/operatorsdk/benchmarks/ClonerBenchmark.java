@@ -0,0 +1,60 @@
+package io.quarkiverse.operatorsdk.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.javaoperatorsdk.operator.api.config.Cloner;
+import io.quarkiverse.operatorsdk.runtime.ClonerStrategy;
+import io.quarkiverse.operatorsdk.runtime.QuarkusCloner;
+import io.quarkiverse.operatorsdk.runtime.QuarkusConfigurationService;
+
+/**
+ * Measures the cost of cloning resources through the {@link QuarkusConfigurationService} for each {@link ClonerStrategy}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClonerBenchmark {
+
+    @Param({ "JSON", "BINARY", "GENERATED", "NONE" })
+    public ClonerStrategy strategy;
+
+    @Param({ "ConfigMap", "CustomResource" })
+    public String resourceType;
+
+    private Cloner cloner;
+    private HasMetadata resource;
+
+    @Setup
+    public void setup() {
+        final Map<String, String> generatedCloners = strategy == ClonerStrategy.GENERATED
+                ? Map.of(ConfigMap.class.getName(), ConfigMapCloner.class.getName())
+                : Map.of();
+        final var quarkusCloner = QuarkusCloner.from(strategy, Map.of(), generatedCloners, Map.of(),
+                BenchmarkFixtures.MAPPER);
+        cloner = BenchmarkFixtures.configurationService(1, 0, quarkusCloner).getResourceCloner();
+        resource = BenchmarkFixtures.resource(resourceType);
+    }
+
+    @Benchmark
+    public HasMetadata cloneResource() {
+        return cloner.clone(resource);
+    }
+}
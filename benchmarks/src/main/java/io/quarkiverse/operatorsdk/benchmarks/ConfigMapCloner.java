@@ -0,0 +1,19 @@
+package io.quarkiverse.operatorsdk.benchmarks;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.javaoperatorsdk.operator.api.config.Cloner;
+
+/**
+ * Hand-written equivalent of the {@link Cloner} that is generated at build time for {@link ConfigMap} resources, since
+ * benchmarks don't go through the Quarkus build.
+ */
+public class ConfigMapCloner implements Cloner {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R extends HasMetadata> R clone(R object) {
+        return (R) new ConfigMapBuilder((ConfigMap) object).build();
+    }
+}
@@ -0,0 +1,11 @@
+package io.quarkiverse.operatorsdk.benchmarks;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.CRUDKubernetesDependentResource;
+
+public class ConfigMapDependent extends CRUDKubernetesDependentResource<ConfigMap, BenchmarkResource> {
+
+    public ConfigMapDependent() {
+        super(ConfigMap.class);
+    }
+}
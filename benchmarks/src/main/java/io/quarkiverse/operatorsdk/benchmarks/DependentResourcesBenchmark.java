@@ -0,0 +1,68 @@
+package io.quarkiverse.operatorsdk.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.javaoperatorsdk.operator.api.config.dependent.DependentResourceSpec;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
+import io.quarkiverse.operatorsdk.runtime.QuarkusConfigurationService;
+import io.quarkiverse.operatorsdk.runtime.QuarkusControllerConfiguration;
+
+/**
+ * Measures the steady-state cost of the dependent resources lookups performed whenever a controller's workflow is
+ * created or accessed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DependentResourcesBenchmark {
+
+    @Param({ "1", "5", "20" })
+    public int dependents;
+
+    private QuarkusConfigurationService configurationService;
+    private QuarkusControllerConfiguration<BenchmarkResource> configuration;
+    private DependentResourceSpec<?, ?> spec;
+
+    @Setup
+    @SuppressWarnings("rawtypes")
+    public void setup() {
+        configurationService = BenchmarkFixtures.configurationService(1, dependents, BenchmarkFixtures.noCloning());
+        // the only controller is associated with BenchmarkReconciler
+        configuration = configurationService.getConfigurationFor(new BenchmarkReconciler());
+        spec = configuration.getDependentResources().get(0);
+
+        // dependents are normally retrieved from ArC on first access: benchmarks run outside a Quarkus application so
+        // record them directly to measure the steady-state behavior
+        for (Object dependentSpec : configuration.getDependentResources()) {
+            configurationService.registerDependent(configuration.getName(),
+                    ((DependentResourceSpec) dependentSpec).getName(), new ConfigMapDependent());
+        }
+    }
+
+    @Benchmark
+    public List<DependentResourceSpec> getDependentResources() {
+        return configuration.getDependentResources();
+    }
+
+    @Benchmark
+    @SuppressWarnings("rawtypes")
+    public DependentResource createFrom() {
+        return configurationService.createFrom(spec, configuration);
+    }
+}
@@ -0,0 +1,112 @@
+package io.quarkiverse.operatorsdk.benchmarks;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.javaoperatorsdk.operator.RegisteredController;
+import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
+import io.javaoperatorsdk.operator.health.ControllerHealthInfo;
+import io.javaoperatorsdk.operator.health.EventSourceHealthIndicator;
+import io.javaoperatorsdk.operator.health.Status;
+import io.quarkiverse.operatorsdk.runtime.OperatorHealthCheck;
+import io.quarkiverse.operatorsdk.runtime.OperatorHealthSnapshot;
+
+/**
+ * Measures the cost of a readiness probe depending on the number of registered controllers, computing the operator health
+ * from scratch as well as reading it from an up-to-date {@link OperatorHealthSnapshot}, which is what probes do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HealthCheckBenchmark {
+
+    @Param({ "1", "10", "50" })
+    public int controllers;
+
+    @Param({ "false", "true" })
+    public boolean unhealthy;
+
+    private OperatorHealthSnapshot uncached;
+    private OperatorHealthSnapshot snapshot;
+
+    @Setup
+    @SuppressWarnings("rawtypes")
+    public void setup() {
+        final EventSourceHealthIndicator unhealthyIndicator = () -> Status.UNHEALTHY;
+        final Set<RegisteredController> registered = new HashSet<>(controllers);
+        for (int i = 0; i < controllers; i++) {
+            final var configuration = BenchmarkFixtures.controllerConfiguration(BenchmarkFixtures.controllerName(i),
+                    BenchmarkReconciler.class.getName(), 0);
+            // only flag the last controller as unhealthy, which is the most common failure scenario
+            final Map<String, EventSourceHealthIndicator> unhealthyEventSources = unhealthy && i == controllers - 1
+                    ? Map.of("informer", unhealthyIndicator)
+                    : Map.of();
+            registered.add(new StaticRegisteredController(configuration, unhealthyEventSources));
+        }
+        // a zero maximum age computes the health each time it is read
+        uncached = new OperatorHealthSnapshot(() -> OperatorHealthCheck.stateOf(registered), Duration.ZERO);
+        // the snapshot isn't refreshed during a measurement so probes only read it
+        snapshot = new OperatorHealthSnapshot(() -> OperatorHealthCheck.stateOf(registered), Duration.ofDays(1));
+        snapshot.refresh();
+    }
+
+    @Benchmark
+    public HealthCheckResponse call() {
+        return uncached.get();
+    }
+
+    @Benchmark
+    public HealthCheckResponse snapshot() {
+        return snapshot.get();
+    }
+
+    private static class StaticRegisteredController implements RegisteredController<BenchmarkResource> {
+        private final ControllerConfiguration<BenchmarkResource> configuration;
+        private final ControllerHealthInfo healthInfo;
+
+        private StaticRegisteredController(ControllerConfiguration<BenchmarkResource> configuration,
+                Map<String, EventSourceHealthIndicator> unhealthyEventSources) {
+            this.configuration = configuration;
+            this.healthInfo = new ControllerHealthInfo(null) {
+                @Override
+                public Map<String, EventSourceHealthIndicator> unhealthyEventSources() {
+                    return unhealthyEventSources;
+                }
+            };
+        }
+
+        @Override
+        public ControllerConfiguration<BenchmarkResource> getConfiguration() {
+            return configuration;
+        }
+
+        @Override
+        public ControllerHealthInfo getControllerHealthInfo() {
+            return healthInfo;
+        }
+
+        @Override
+        public void changeNamespaces(Set<String> namespaces) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package io.quarkiverse.operatorsdk.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
+import io.quarkiverse.operatorsdk.runtime.QuarkusConfigurationService;
+
+/**
+ * Measures how long it takes to resolve a reconciler's configuration, with and without the class name heuristics that
+ * are needed to handle ArC-generated subclasses.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KeyForBenchmark {
+
+    @Param({ "1", "10", "100" })
+    public int controllers;
+
+    private QuarkusConfigurationService configurationService;
+    private BenchmarkReconciler reconciler;
+    private BenchmarkReconciler subclassedReconciler;
+
+    @Setup
+    public void setup() {
+        configurationService = BenchmarkFixtures.configurationService(controllers, 0, BenchmarkFixtures.noCloning());
+        reconciler = new BenchmarkReconciler();
+        subclassedReconciler = new BenchmarkReconciler_Subclass();
+    }
+
+    @Benchmark
+    public ControllerConfiguration<BenchmarkResource> getConfigurationFor() {
+        return configurationService.getConfigurationFor(reconciler);
+    }
+
+    @Benchmark
+    public ControllerConfiguration<BenchmarkResource> getConfigurationForSubclass() {
+        return configurationService.getConfigurationFor(subclassedReconciler);
+    }
+}
@@ -36,6 +36,10 @@ class BuildTimeHybridControllerConfiguration {
                 () -> operatorConfiguration.generationAware.orElse(true));
     }
 
+    boolean copyOnWrite() {
+        return externalConfiguration != null && externalConfiguration.copyOnWrite.orElse(false);
+    }
+
     Set<String> namespaces() {
         HashSet<String> namespaces = null;
         if (controllerAnnotation != null) {
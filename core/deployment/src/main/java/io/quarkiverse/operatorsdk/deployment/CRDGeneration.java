@@ -1,10 +1,22 @@
 package io.quarkiverse.operatorsdk.deployment;
 
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 import io.fabric8.crd.generator.CRDGenerator;
 import io.fabric8.crd.generator.CustomResourceInfo;
@@ -13,24 +25,24 @@ import io.quarkiverse.operatorsdk.common.CustomResourceAugmentedClassInfo;
 import io.quarkiverse.operatorsdk.runtime.CRDConfiguration;
 import io.quarkiverse.operatorsdk.runtime.CRDGenerationInfo;
 import io.quarkiverse.operatorsdk.runtime.CRDInfo;
+import io.quarkiverse.operatorsdk.runtime.CRDUtils;
+import io.quarkiverse.operatorsdk.runtime.ResourceInfo;
 import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
 import io.quarkus.runtime.LaunchMode;
 
 class CRDGeneration {
-    private final CRDGenerator generator;
     private final boolean generate;
     private final LaunchMode mode;
     private final CRDConfiguration crdConfiguration;
 
-    private boolean needGeneration;
+    // CRDs scheduled for generation, sorted by name so that generation happens in a deterministic order
+    private final Map<String, ScheduledCRD> scheduled = new TreeMap<>();
     private final ResourceControllerMapping crMappings = new ResourceControllerMapping();
 
     public CRDGeneration(CRDConfiguration crdConfig, LaunchMode mode) {
         this.crdConfiguration = crdConfig;
         this.mode = mode;
         this.generate = CRDGeneration.shouldGenerate(crdConfig.generate, crdConfig.apply, mode);
-        this.generator = new CRDGenerator()
-                .withParallelGenerationEnabled(crdConfig.generateInParallel);
     }
 
     static boolean shouldGenerate(Optional<Boolean> configuredGenerate, Optional<Boolean> configuredApply,
@@ -49,6 +61,11 @@ class CRDGeneration {
         return shouldApply(crdConfiguration.apply, mode);
     }
 
+    static Duration establishedTimeout(Optional<Duration> configuredTimeout, LaunchMode launchMode) {
+        // test mode usually relies on a mock server, which never establishes CRDs
+        return configuredTimeout.orElse(launchMode == LaunchMode.TEST ? Duration.ZERO : CRDUtils.DEFAULT_ESTABLISHED_TIMEOUT);
+    }
+
     public boolean wantCRDGenerated() {
         return generate;
     }
@@ -61,17 +78,17 @@ class CRDGeneration {
      *        should be generated
      * @param validateCustomResources whether the SDK should check if the CRDs are properly deployed
      *        on the server
-     * @param existing the already known CRDInfos
+     * @param stored the already known CRD information, updated with the information about the newly generated CRDs
      * @return a {@link CRDGenerationInfo} detailing information about the CRD generation
      */
     CRDGenerationInfo generate(OutputTargetBuildItem outputTarget,
-            boolean validateCustomResources, Map<String, Map<String, CRDInfo>> existing) {
+            boolean validateCustomResources, ContextStoredCRDInfos stored) {
         // initialize CRDInfo with existing data to always have a full view even if we don't generate anything
-        final var converted = new HashMap<>(existing);
+        final var converted = new HashMap<>(stored.getExisting());
         // record which CRDs got generated so that we only apply the changed ones
         final var generated = new HashSet<String>();
 
-        if (needGeneration) {
+        if (!scheduled.isEmpty()) {
             final String outputDirName = crdConfiguration.outputDirectory;
             final var outputDir = outputTarget.getOutputDirectory().resolve(outputDirName).toFile();
             if (!outputDir.exists()) {
@@ -80,34 +97,197 @@ class CRDGeneration {
                 }
             }
 
-            // generate CRDs with detailed information
-            final var info = generator.forCRDVersions(crdConfiguration.versions).inOutputDir(outputDir).detailedGenerate();
-            final var crdDetailsPerNameAndVersion = info.getCRDDetailsPerNameAndVersion();
+            // generate each CRD only for the versions that need it, only writing the files whose content changed
+            final var output = new ChangedFilesCRDOutput(outputDir);
+            final var classLoader = Thread.currentThread().getContextClassLoader();
+            final var cacheDir = outputTarget.getOutputDirectory().resolve(crdConfiguration.generationCacheDirectory);
+            final var cache = crdConfiguration.generationCache ? new CRDGenerationCache(cacheDir, generationSettings())
+                    : null;
 
-            crdDetailsPerNameAndVersion.forEach((crdName, initialVersionToCRDInfoMap) -> {
-                OperatorSDKProcessor.log.infov("Generated {0} CRD:", crdName);
-                generated.add(crdName);
+            // CRD name -> CRD spec version -> dependent class names, for both cached and newly generated CRDs
+            final var results = cache != null ? retrieveCachedCRDs(cache, output, classLoader)
+                    : new TreeMap<String, Map<String, Set<String>>>();
+            generateScheduledCRDs(output, classLoader).forEach((crdName, initialVersionToCRDInfoMap) -> {
+                final var versionToDependents = results.computeIfAbsent(crdName, k -> new TreeMap<>());
+                initialVersionToCRDInfoMap.forEach((version, crdInfo) -> {
+                    versionToDependents.put(version, crdInfo.getDependentClassNames());
+                    if (cache != null) {
+                        cache.put(crdName, version, scheduled.get(crdName).resourceClassNames(),
+                                crdInfo.getDependentClassNames(), output.contentFor(crdName + "-" + version), classLoader);
+                    }
+                });
+            });
 
-                final var versions = crMappings.getResourceInfos(crdName);
-                final var versionToCRDInfo = converted.computeIfAbsent(crdName, s -> new HashMap<>());
-                initialVersionToCRDInfoMap
-                        .forEach((version, crdInfo) -> {
-                            final var filePath = crdInfo.getFilePath();
+            results.forEach((generatedCRDName, versionToDependents) -> {
+                OperatorSDKProcessor.log.infov("Generated {0} CRD:", generatedCRDName);
+                // CRDs retrieved from the cache still need to be applied
+                generated.add(generatedCRDName);
+
+                final var versions = crMappings.getResourceInfos(generatedCRDName);
+                final var versionToCRDInfo = converted.compute(generatedCRDName,
+                        (k, existing) -> existing != null ? new HashMap<>(existing) : new HashMap<>());
+                versionToDependents
+                        .forEach((version, dependentClassNames) -> {
+                            final var outputName = generatedCRDName + "-" + version;
+                            final var filePath = new File(output.crdURI(outputName)).getAbsolutePath();
                             OperatorSDKProcessor.log.infov("  - {0} -> {1}", version, filePath);
-                            versionToCRDInfo.put(version, new CRDInfo(crdInfo.getCrdName(),
-                                    version, filePath, crdInfo.getDependentClassNames(), versions));
+                            final var crdInfo = new CRDInfo(generatedCRDName, version, filePath, dependentClassNames,
+                                    versions, contentHash(output.contentFor(outputName)));
+                            versionToCRDInfo.put(version, crdInfo);
+                            stored.putInputsHash(generatedCRDName, version, inputsHash(crdInfo, classLoader));
                         });
             });
+
+            try {
+                final var written = output.writeChangedFiles();
+                OperatorSDKProcessor.log.debugv("Wrote {0} changed CRD file(s) to {1}", written, outputDir);
+            } catch (IOException e) {
+                throw new IllegalStateException("Couldn't write generated CRDs to " + outputDir.getAbsolutePath(), e);
+            }
+        }
+        return new CRDGenerationInfo(shouldApply(), validateCustomResources, converted, generated,
+                establishedTimeout(crdConfiguration.establishedTimeout, mode).toMillis());
+    }
+
+    /**
+     * @return a description of the configuration impacting the generated CRDs, used to invalidate cached CRDs when it
+     *         changes
+     */
+    String generationSettings() {
+        // each spec version is generated independently but record all of them to err on the side of caution
+        return "versions=" + String.join(",", new TreeSet<>(crdConfiguration.versions));
+    }
+
+    /**
+     * Retrieves the scheduled CRD versions that can be retrieved from the cache, removing them from the versions to
+     * generate
+     *
+     * @param cache the {@link CRDGenerationCache} to look CRDs up from
+     * @param output the {@link ChangedFilesCRDOutput} the cached CRDs are added to
+     * @param classLoader the {@link ClassLoader} used to check whether cached CRDs are still valid
+     * @return the dependent class names of the cached CRDs, per CRD name and spec version
+     */
+    private Map<String, Map<String, Set<String>>> retrieveCachedCRDs(CRDGenerationCache cache,
+            ChangedFilesCRDOutput output, ClassLoader classLoader) {
+        final var cached = new TreeMap<String, Map<String, Set<String>>>();
+        scheduled.forEach((crdName, crd) -> {
+            final var resourceClassNames = crd.resourceClassNames();
+            crd.versions.removeIf(version -> cache.get(crdName, version, resourceClassNames, classLoader)
+                    .map(entry -> {
+                        output.add(crdName + "-" + version, entry.getContent());
+                        cached.computeIfAbsent(crdName, k -> new TreeMap<>()).put(version, entry.getDependentClassNames());
+                        OperatorSDKProcessor.log.infov(
+                                "''{0}'' CRD generation was skipped for ''{1}'' because it was found up to date in the cache",
+                                version, crdName);
+                        return true;
+                    })
+                    .orElse(false));
+        });
+        return cached;
+    }
+
+    /**
+     * Generates the scheduled CRDs, concurrently if so configured, using a pool bounded by the number of available
+     * processors. Each CRD is generated independently so that the result doesn't depend on the order in which generations
+     * complete. All generation failures are reported together.
+     * <p>
+     * Concurrent generations don't share any mutable state: each uses its own {@link CRDGenerator} and writes to its own
+     * entries of the {@link ChangedFilesCRDOutput}, which is thread-safe, while the type information of the custom resources
+     * is resolved sequentially, when they are scheduled using {@link CustomResourceInfo#fromClass(Class)}, so that
+     * generations only read it.
+     *
+     * @param output the {@link ChangedFilesCRDOutput} the CRDs are generated to
+     * @param classLoader the {@link ClassLoader} to use to generate the CRDs
+     * @return the information about the generated CRDs per CRD name and spec version, sorted by CRD name
+     */
+    Map<String, Map<String, io.fabric8.crd.generator.CRDInfo>> generateScheduledCRDs(ChangedFilesCRDOutput output,
+            ClassLoader classLoader) {
+        final var threads = crdConfiguration.generateInParallel
+                ? Math.min(scheduled.size(), Runtime.getRuntime().availableProcessors())
+                : 1;
+        final var executor = Executors.newFixedThreadPool(Math.max(threads, 1));
+        try {
+            final Map<String, Future<Map<String, Map<String, io.fabric8.crd.generator.CRDInfo>>>> generations =
+                    new LinkedHashMap<>();
+            scheduled.forEach((crdName, crd) -> {
+                if (crd.versions.isEmpty()) {
+                    return;
+                }
+                generations.put(crdName, executor.submit(() -> {
+                    final var thread = Thread.currentThread();
+                    final var previous = thread.getContextClassLoader();
+                    thread.setContextClassLoader(classLoader);
+                    try {
+                        return new CRDGenerator()
+                                .customResources(crd.resources.toArray(CustomResourceInfo[]::new))
+                                .forCRDVersions(new ArrayList<>(crd.versions))
+                                .withOutput(output)
+                                .detailedGenerate()
+                                .getCRDDetailsPerNameAndVersion();
+                    } finally {
+                        thread.setContextClassLoader(previous);
+                    }
+                }));
+            });
+
+            final var results = new TreeMap<String, Map<String, io.fabric8.crd.generator.CRDInfo>>();
+            final var failures = new LinkedHashMap<String, Throwable>();
+            for (var generation : generations.entrySet()) {
+                try {
+                    results.putAll(generation.getValue().get());
+                } catch (ExecutionException e) {
+                    failures.put(generation.getKey(), e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while generating CRDs", e);
+                }
+            }
+
+            if (!failures.isEmpty()) {
+                final var exception = new IllegalStateException("Couldn't generate CRDs for: " + failures.keySet());
+                failures.values().forEach(exception::addSuppressed);
+                throw exception;
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
         }
-        return new CRDGenerationInfo(shouldApply(), validateCustomResources, converted, generated);
     }
 
-    private boolean needsGeneration(Map<String, CRDInfo> existingCRDInfos, Set<String> changedClassNames, String targetCRName) {
-        final boolean[] generateCurrent = { true }; // request CRD generation by default
+    /**
+     * Computes a hash of the generated CRD content so that the runtime can determine whether the CRD deployed on the cluster
+     * needs to be updated without having to compare the whole CRD
+     *
+     * @param content the generated CRD content
+     * @return the hexadecimal SHA-256 hash of the content or {@code null} if there is no content
+     */
+    static String contentHash(byte[] content) {
+        return content != null ? Hashes.sha256(content) : null;
+    }
+
+    /**
+     * Computes a hash of the classes the specified CRD was generated from, i.e. its custom resource classes and the classes
+     * they depend on, so that changes impacting the CRD can be detected
+     *
+     * @param crdInfo the {@link CRDInfo} for which we want to compute the inputs hash
+     * @param classLoader the {@link ClassLoader} used to retrieve the classes' bytecode
+     * @return the hexadecimal SHA-256 hash of the classes the CRD depends on
+     */
+    static String inputsHash(CRDInfo crdInfo, ClassLoader classLoader) {
+        final var classNames = new HashSet<>(crdInfo.getDependentClassNames());
+        crdInfo.getVersions().values().stream().map(ResourceInfo::getResourceClassName).forEach(classNames::add);
+        return Hashes.ofClasses(classNames, classLoader);
+    }
+
+    private Set<String> versionsNeedingGeneration(Map<String, CRDInfo> existingCRDInfos, Map<String, String> inputsHashes,
+            Set<String> changedClassNames, String targetCRName) {
+        final var classLoader = Thread.currentThread().getContextClassLoader();
+        final var versions = new TreeSet<String>();
         crdConfiguration.versions.forEach(v -> {
             final var crd = existingCRDInfos.get(v);
             // if we don't have any information about this CRD version, we need to generate the CRD
             if (crd == null) {
+                versions.add(v);
                 return;
             }
 
@@ -115,47 +295,72 @@ class CRDGeneration {
             if (changedClassNames != null && !changedClassNames.isEmpty()) {
                 for (String changedClass : changedClassNames) {
                     if (crd.getDependentClassNames().contains(changedClass)) {
+                        versions.add(v);
                         return; // a dependent class has been changed, so we'll need to generate the CRD
                     }
                 }
             }
 
+            // if the bytecode of the classes the CRD was generated from changed since it was generated
+            final var inputsHash = inputsHashes.get(v);
+            if (inputsHash != null && !inputsHash.equals(inputsHash(crd, classLoader))) {
+                versions.add(v);
+                return;
+            }
+
             // we've looked at all the changed classes and none have been changed for this CR/version: do not regenerate CRD
             OperatorSDKProcessor.log.infov(
                     "''{0}'' CRD generation was skipped for ''{1}'' because no changes impacting the CRD were detected",
                     v, targetCRName);
-            generateCurrent[0] = false;
         });
-        return generateCurrent[0];
+        return versions;
     }
 
     boolean scheduleForGenerationIfNeeded(CustomResourceAugmentedClassInfo crInfo,
-            Map<String, CRDInfo> existingCRDInfos, Set<String> changedClasses) {
-        var scheduleCurrent = true;
+            Map<String, CRDInfo> existingCRDInfos, Map<String, String> inputsHashes, Set<String> changedClasses) {
         final String targetCRName = crInfo.asResourceTargeting().fullResourceName();
 
+        Set<String> versions = new TreeSet<>(crdConfiguration.versions);
         if (existingCRDInfos != null && !existingCRDInfos.isEmpty()) {
-            scheduleCurrent = needsGeneration(existingCRDInfos, changedClasses, targetCRName);
+            versions = versionsNeedingGeneration(existingCRDInfos, inputsHashes, changedClasses, targetCRName);
         }
 
-        if (scheduleCurrent) {
-            withCustomResource(crInfo.loadAssociatedClass(), targetCRName, crInfo.getAssociatedReconcilerName().orElse(null));
+        if (!versions.isEmpty()) {
+            withCustomResource(crInfo.loadAssociatedClass(), targetCRName, crInfo.getAssociatedReconcilerName().orElse(null),
+                    versions);
         }
 
-        return scheduleCurrent;
+        return !versions.isEmpty();
     }
 
     @SuppressWarnings("rawtypes")
     public void withCustomResource(Class<? extends CustomResource> crClass, String crdName, String associatedControllerName) {
+        withCustomResource(crClass, crdName, associatedControllerName, crdConfiguration.versions);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private void withCustomResource(Class<? extends CustomResource> crClass, String crdName, String associatedControllerName,
+            Iterable<String> versions) {
         try {
             final var info = CustomResourceInfo.fromClass(crClass);
             crMappings.add(info, crdName, associatedControllerName);
-            generator.customResources(info);
-            needGeneration = true;
+            final var crd = scheduled.computeIfAbsent(crdName, k -> new ScheduledCRD());
+            crd.resources.add(info);
+            // a CRD is generated from all its custom resources so generate it for all the versions any of them requires
+            versions.forEach(crd.versions::add);
         } catch (Exception e) {
             throw new IllegalArgumentException("Cannot process " + crClass.getName() + " custom resource"
                     + (associatedControllerName != null ? " for controller '" + associatedControllerName + "'" : ""),
                     e);
         }
     }
+
+    private static class ScheduledCRD {
+        private final List<CustomResourceInfo> resources = new ArrayList<>();
+        private final Set<String> versions = new TreeSet<>();
+
+        private Set<String> resourceClassNames() {
+            return resources.stream().map(CustomResourceInfo::crClassName).collect(Collectors.toSet());
+        }
+    }
 }
@@ -0,0 +1,198 @@
+package io.quarkiverse.operatorsdk.deployment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import io.fabric8.crd.generator.CRDGenerator;
+
+/**
+ * A persistent, content-addressed, cache of generated CRDs, allowing to skip CRD generation across builds when none of the
+ * classes a CRD was generated from changed.
+ * <p>
+ * For each CRD name and spec version, an index file records the classes the CRD was generated from, a hash of their
+ * bytecode, the generation settings, i.e. the CRD generator version and the configuration impacting the generated CRDs,
+ * and the hash of the generated content, which is stored in a file named after its hash.
+ */
+class CRDGenerationCache {
+    private static final String CONTENTS_DIRECTORY = "contents";
+    private static final String RESOURCE_CLASS_NAMES = "resourceClassNames";
+    private static final String DEPENDENT_CLASS_NAMES = "dependentClassNames";
+    private static final String INPUTS_HASH = "inputsHash";
+    private static final String GENERATION_SETTINGS = "generationSettings";
+    private static final String GENERATOR_POM_PROPERTIES = "META-INF/maven/io.fabric8/crd-generator-api/pom.properties";
+    private static final String CONTENT_HASH = "contentHash";
+    private static final String SEPARATOR = ",";
+
+    private final Path directory;
+    private final String generationSettings;
+
+    /**
+     * @param directory the directory where the cache is stored
+     * @param generationSettings a description of the settings impacting the generated CRDs, cached CRDs generated with
+     *        different settings being ignored
+     */
+    CRDGenerationCache(Path directory, String generationSettings) {
+        this.directory = directory;
+        this.generationSettings = generatorVersion() + ";" + generationSettings;
+    }
+
+    /**
+     * @return the version of the CRD generator or, if it cannot be determined, a hash of its main class
+     */
+    static String generatorVersion() {
+        final var classLoader = CRDGenerator.class.getClassLoader();
+        try (var pom = classLoader != null ? classLoader.getResourceAsStream(GENERATOR_POM_PROPERTIES) : null) {
+            if (pom != null) {
+                final var properties = new Properties();
+                properties.load(pom);
+                final var version = properties.getProperty("version");
+                if (version != null) {
+                    return version;
+                }
+            }
+        } catch (IOException e) {
+            // fall back to the implementation version
+        }
+        final var version = CRDGenerator.class.getPackage().getImplementationVersion();
+        return version != null ? version
+                : Hashes.ofClasses(Set.of(CRDGenerator.class.getName()), CRDGenerator.class.getClassLoader());
+    }
+
+    static class Entry {
+        private final Set<String> dependentClassNames;
+        private final byte[] content;
+
+        private Entry(Set<String> dependentClassNames, byte[] content) {
+            this.dependentClassNames = dependentClassNames;
+            this.content = content;
+        }
+
+        Set<String> getDependentClassNames() {
+            return dependentClassNames;
+        }
+
+        byte[] getContent() {
+            return content;
+        }
+    }
+
+    /**
+     * Retrieves the cached CRD for the specified CRD name and spec version, provided it was generated with the same
+     * settings, from the same custom resource classes and that neither these nor the classes they depend on changed since
+     *
+     * @param crdName the name of the CRD
+     * @param crdSpecVersion the CRD spec version
+     * @param resourceClassNames the names of the custom resource classes the CRD is generated from
+     * @param classLoader the {@link ClassLoader} used to retrieve the classes' bytecode
+     * @return the cached {@link Entry} if it is still valid, {@link Optional#empty()} otherwise
+     */
+    Optional<Entry> get(String crdName, String crdSpecVersion, Set<String> resourceClassNames, ClassLoader classLoader) {
+        final var indexFile = indexFileFor(crdName, crdSpecVersion);
+        if (!Files.isRegularFile(indexFile)) {
+            return Optional.empty();
+        }
+
+        try (var reader = Files.newBufferedReader(indexFile)) {
+            final var index = new Properties();
+            index.load(reader);
+            if (!generationSettings.equals(index.getProperty(GENERATION_SETTINGS))
+                    || !resourceClassNames.equals(split(index.getProperty(RESOURCE_CLASS_NAMES)))) {
+                return Optional.empty();
+            }
+
+            final var dependentClassNames = split(index.getProperty(DEPENDENT_CLASS_NAMES));
+            if (!inputsHash(resourceClassNames, dependentClassNames, classLoader).equals(index.getProperty(INPUTS_HASH))) {
+                return Optional.empty();
+            }
+
+            final var contentHash = index.getProperty(CONTENT_HASH);
+            final var contentFile = contentFileFor(contentHash);
+            if (contentHash == null || !Files.isRegularFile(contentFile)) {
+                return Optional.empty();
+            }
+            final var content = Files.readAllBytes(contentFile);
+            // make sure the content wasn't tampered with
+            if (!contentHash.equals(Hashes.sha256(content))) {
+                return Optional.empty();
+            }
+            return Optional.of(new Entry(dependentClassNames, content));
+        } catch (IOException | IllegalArgumentException e) {
+            OperatorSDKProcessor.log.debugv(e, "Ignoring invalid CRD generation cache entry {0}", indexFile);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Records the specified generated CRD in the cache, failures to do so being ignored
+     *
+     * @param crdName the name of the CRD
+     * @param crdSpecVersion the CRD spec version
+     * @param resourceClassNames the names of the custom resource classes the CRD was generated from
+     * @param dependentClassNames the names of the classes the custom resource classes depend on
+     * @param content the generated CRD content
+     * @param classLoader the {@link ClassLoader} used to retrieve the classes' bytecode
+     */
+    void put(String crdName, String crdSpecVersion, Set<String> resourceClassNames, Set<String> dependentClassNames,
+            byte[] content, ClassLoader classLoader) {
+        if (content == null) {
+            return;
+        }
+
+        final var indexFile = indexFileFor(crdName, crdSpecVersion);
+        try {
+            final var contentHash = Hashes.sha256(content);
+            final var contentFile = contentFileFor(contentHash);
+            if (!Files.exists(contentFile)) {
+                Files.createDirectories(contentFile.getParent());
+                Files.write(contentFile, content);
+            }
+
+            final var index = new Properties();
+            index.setProperty(GENERATION_SETTINGS, generationSettings);
+            index.setProperty(RESOURCE_CLASS_NAMES, join(resourceClassNames));
+            index.setProperty(DEPENDENT_CLASS_NAMES, join(dependentClassNames));
+            index.setProperty(INPUTS_HASH, inputsHash(resourceClassNames, dependentClassNames, classLoader));
+            index.setProperty(CONTENT_HASH, contentHash);
+            try (var writer = Files.newBufferedWriter(indexFile)) {
+                index.store(writer, null);
+            }
+        } catch (IOException e) {
+            OperatorSDKProcessor.log.debugv(e, "Couldn''t record {0} CRD generation cache entry {1}", crdName, indexFile);
+        }
+    }
+
+    private static String inputsHash(Set<String> resourceClassNames, Set<String> dependentClassNames,
+            ClassLoader classLoader) {
+        final var classNames = new HashSet<>(resourceClassNames);
+        classNames.addAll(dependentClassNames);
+        return Hashes.ofClasses(classNames, classLoader);
+    }
+
+    private Path indexFileFor(String crdName, String crdSpecVersion) {
+        return directory.resolve(crdName + "-" + crdSpecVersion + ".properties");
+    }
+
+    private Path contentFileFor(String contentHash) {
+        return directory.resolve(CONTENTS_DIRECTORY).resolve(contentHash + ".yml");
+    }
+
+    private static String join(Collection<String> classNames) {
+        return String.join(SEPARATOR, new TreeSet<>(classNames));
+    }
+
+    private static Set<String> split(String classNames) {
+        if (classNames == null || classNames.isBlank()) {
+            return Set.of();
+        }
+        return Arrays.stream(classNames.split(SEPARATOR)).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,84 @@
+package io.quarkiverse.operatorsdk.deployment;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.fabric8.crd.generator.CRDGenerator;
+
+/**
+ * A {@link CRDGenerator.CRDOutput} buffering generated CRDs in memory so that only the CRD files whose content changed are
+ * written to the output directory, leaving unchanged files untouched so that file watchers don't get triggered needlessly.
+ */
+class ChangedFilesCRDOutput implements CRDGenerator.CRDOutput<ByteArrayOutputStream> {
+    private final File outputDir;
+    private final Map<String, ByteArrayOutputStream> outputs = new ConcurrentHashMap<>();
+
+    ChangedFilesCRDOutput(File outputDir) {
+        this.outputDir = outputDir;
+    }
+
+    @Override
+    public ByteArrayOutputStream outputFor(String crdName) {
+        return outputs.computeIfAbsent(crdName, k -> new ByteArrayOutputStream());
+    }
+
+    /**
+     * Records previously generated content for the specified CRD output name
+     *
+     * @param crdName the output name of the CRD, i.e. {@code <CRD name>-<CRD spec version>}
+     * @param content the CRD content
+     */
+    void add(String crdName, byte[] content) {
+        outputFor(crdName).writeBytes(content);
+    }
+
+    @Override
+    public URI crdURI(String crdName) {
+        return fileFor(crdName).toURI();
+    }
+
+    private File fileFor(String crdName) {
+        return new File(outputDir, crdName + ".yml");
+    }
+
+    /**
+     * Retrieves the generated content for the specified CRD output name
+     *
+     * @param crdName the output name of the CRD, i.e. {@code <CRD name>-<CRD spec version>}
+     * @return the generated content or {@code null} if no such CRD was generated
+     */
+    byte[] contentFor(String crdName) {
+        final var output = outputs.get(crdName);
+        return output != null ? output.toByteArray() : null;
+    }
+
+    /**
+     * Writes the generated CRDs whose content differs from the one of the existing files
+     *
+     * @return the number of files that were written
+     * @throws IOException if a file couldn't be read or written
+     */
+    int writeChangedFiles() throws IOException {
+        int written = 0;
+        for (Map.Entry<String, ByteArrayOutputStream> entry : outputs.entrySet()) {
+            final var file = fileFor(entry.getKey()).toPath();
+            final var content = entry.getValue().toByteArray();
+            if (!Files.exists(file) || !Arrays.equals(content, Files.readAllBytes(file))) {
+                Files.write(file, content);
+                written++;
+            }
+        }
+        return written;
+    }
+
+    @Override
+    public void close() {
+        // nothing to do: closing a ByteArrayOutputStream has no effect
+    }
+}
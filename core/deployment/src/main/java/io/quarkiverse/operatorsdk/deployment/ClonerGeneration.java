@@ -0,0 +1,91 @@
+package io.quarkiverse.operatorsdk.deployment;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.logging.Logger;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.javaoperatorsdk.operator.api.config.Cloner;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+
+/**
+ * Generates type-specialized {@link Cloner} implementations for known resource types so that cloning cached resources
+ * doesn't require a full serialization round-trip.
+ * <p>
+ * The generated cloners rely on the builders that the Fabric8 client provides for its model classes: as all the nested
+ * types of these classes are themselves buildable, re-building a resource from its builder results in a deep copy.
+ * Custom resources are not handled since their spec and status classes are usually not buildable, which would result in
+ * shallow copies, so these resources are cloned using the fallback strategy.
+ */
+class ClonerGeneration {
+    static final Logger log = Logger.getLogger(ClonerGeneration.class.getName());
+
+    private static final String FABRIC8_MODEL_PACKAGE_PREFIX = "io.fabric8.";
+    private static final String BUILDER_SUFFIX = "Builder";
+    private static final String GENERATED_PACKAGE = "io.quarkiverse.operatorsdk.generated.";
+    private static final String CLONER_SUFFIX = "_Cloner";
+
+    private final ClassOutput classOutput;
+    private final Map<String, String> generated = new HashMap<>();
+
+    ClonerGeneration(ClassOutput classOutput) {
+        this.classOutput = classOutput;
+    }
+
+    /**
+     * Generates a {@link Cloner} for the specified resource class if possible and if one hasn't already been generated
+     *
+     * @param resourceClass the resource class for which we want to generate a {@link Cloner}
+     */
+    void generateIfPossible(Class<?> resourceClass) {
+        if (resourceClass == null || !HasMetadata.class.isAssignableFrom(resourceClass)) {
+            return;
+        }
+
+        final var resourceClassName = resourceClass.getName();
+        if (generated.containsKey(resourceClassName) || !resourceClassName.startsWith(FABRIC8_MODEL_PACKAGE_PREFIX)) {
+            return;
+        }
+
+        final Class<?> builderClass;
+        final Class<?> builtClass;
+        try {
+            builderClass = Class.forName(resourceClassName + BUILDER_SUFFIX, false, resourceClass.getClassLoader());
+            // make sure that the builder can be created from an existing instance and builds the expected type
+            builderClass.getConstructor(resourceClass);
+            builtClass = builderClass.getMethod("build").getReturnType();
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            log.debugv("No builder found for ''{0}'', cloning will use the fallback strategy", resourceClassName);
+            return;
+        }
+        if (!resourceClass.equals(builtClass)) {
+            return;
+        }
+
+        final var clonerClassName = GENERATED_PACKAGE + resourceClassName.replace('.', '_') + CLONER_SUFFIX;
+        try (ClassCreator creator = ClassCreator.builder()
+                .classOutput(classOutput)
+                .className(clonerClassName)
+                .interfaces(Cloner.class)
+                .build()) {
+            try (MethodCreator clone = creator.getMethodCreator("clone", HasMetadata.class, HasMetadata.class)) {
+                final var original = clone.checkCast(clone.getMethodParam(0), resourceClass);
+                final var builder = clone.newInstance(MethodDescriptor.ofConstructor(builderClass, resourceClass),
+                        original);
+                clone.returnValue(
+                        clone.invokeVirtualMethod(MethodDescriptor.ofMethod(builderClass, "build", resourceClass),
+                                builder));
+            }
+        }
+        generated.put(resourceClassName, clonerClassName);
+        log.debugv("Generated ''{0}'' cloner for ''{1}''", clonerClassName, resourceClassName);
+    }
+
+    Map<String, String> getGenerated() {
+        return generated;
+    }
+}
@@ -7,6 +7,7 @@ import io.quarkiverse.operatorsdk.runtime.CRDInfo;
 
 public class ContextStoredCRDInfos {
     private final Map<String, Map<String, CRDInfo>> infos = new HashMap<>();
+    private final Map<String, Map<String, String>> inputsHashes = new HashMap<>();
 
     Map<String, CRDInfo> getCRDInfosFor(String crdName) {
         return infos.computeIfAbsent(crdName, k -> new HashMap<>());
@@ -16,6 +17,14 @@ public class ContextStoredCRDInfos {
         return infos;
     }
 
+    Map<String, String> getInputsHashesFor(String crdName) {
+        return inputsHashes.computeIfAbsent(crdName, k -> new HashMap<>());
+    }
+
+    void putInputsHash(String crdName, String crdSpecVersion, String inputsHash) {
+        getInputsHashesFor(crdName).put(crdSpecVersion, inputsHash);
+    }
+
     void putAll(Map<String, Map<String, CRDInfo>> toAdd) {
         infos.putAll(toAdd);
     }
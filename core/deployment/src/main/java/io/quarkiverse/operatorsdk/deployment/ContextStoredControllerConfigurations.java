@@ -4,12 +4,22 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
 
 import io.quarkiverse.operatorsdk.runtime.QuarkusControllerConfiguration;
 
 @SuppressWarnings("rawtypes")
 class ContextStoredControllerConfigurations {
+    private static final String APPLICATION_PROPERTIES = "application.properties";
+    private static final String EXTENSION_PREFIX = "quarkus.operator-sdk.";
+    private static final String CONTROLLERS_PREFIX = EXTENSION_PREFIX + "controllers.";
+
     private final Map<String, QuarkusControllerConfiguration> configurations = new HashMap<>();
+    // properties each configuration was derived from, keyed by associated reconciler class name
+    private final Map<String, Map<String, String>> configurationProperties = new HashMap<>();
 
     Map<String, QuarkusControllerConfiguration> getConfigurations() {
         return Collections.unmodifiableMap(configurations);
@@ -19,7 +29,35 @@ class ContextStoredControllerConfigurations {
         // if we get passed null, assume that it's because the configuration had already been generated and therefore doesn't need to be recorded again
         if (configuration != null) {
             configurations.put(configuration.getAssociatedReconcilerClassName(), configuration);
+            configurationProperties.put(configuration.getAssociatedReconcilerClassName(),
+                    configurationPropertiesFor(ConfigProvider.getConfig(), configuration.getName()));
+        }
+    }
+
+    /**
+     * Retrieves the extension properties that can impact the configuration of the specified controller, i.e. the
+     * extension-wide properties and the properties specific to that controller, ignoring properties specific to other
+     * controllers.
+     *
+     * @param config the {@link Config} to retrieve the properties from
+     * @param controllerName the name of the controller
+     * @return a map of the property values by property name
+     */
+    static Map<String, String> configurationPropertiesFor(Config config, String controllerName) {
+        final var controllerPrefix = CONTROLLERS_PREFIX + controllerName + ".";
+        final var quotedControllerPrefix = CONTROLLERS_PREFIX + "\"" + controllerName + "\".";
+        final var properties = new TreeMap<String, String>();
+        for (String propertyName : config.getPropertyNames()) {
+            if (!propertyName.startsWith(EXTENSION_PREFIX)) {
+                continue;
+            }
+            if (propertyName.startsWith(CONTROLLERS_PREFIX) && !propertyName.startsWith(controllerPrefix)
+                    && !propertyName.startsWith(quotedControllerPrefix)) {
+                continue;
+            }
+            properties.put(propertyName, config.getConfigValue(propertyName).getValue());
         }
+        return properties;
     }
 
     // @formatter:off
@@ -41,7 +79,8 @@ class ContextStoredControllerConfigurations {
      * <ul>
      *   <li>the Reconciler class has changed</li>
      *   <li>the primary resource class has changed</li>
-     *   <li>{@code application.properties} as a whole has changed</li>
+     *   <li>{@code application.properties} has changed and the extension-wide or controller-specific properties it
+     *   defines have changed, properties specific to other controllers being ignored</li>
      *   <li>any of the declared {@link io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource} classes have changed</li>
      * </ul>
      *
@@ -65,7 +104,9 @@ class ContextStoredControllerConfigurations {
             Set<String> changedResources, QuarkusControllerConfiguration<?> configuration) {
         return changedClasses.contains(reconcilerClassName)
                 || changedClasses.contains(configuration.getResourceTypeName())
-                || changedResources.contains("application.properties")
+                || (changedResources.contains(APPLICATION_PROPERTIES)
+                        && !configurationPropertiesFor(ConfigProvider.getConfig(), configuration.getName())
+                                .equals(configurationProperties.get(reconcilerClassName)))
                 || configuration.areDependentsImpactedBy(changedClasses);
     }
 }
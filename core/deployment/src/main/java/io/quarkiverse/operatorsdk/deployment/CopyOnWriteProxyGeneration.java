@@ -0,0 +1,256 @@
+package io.quarkiverse.operatorsdk.deployment;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.logging.Logger;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.CustomResource;
+import io.fabric8.kubernetes.model.annotation.Group;
+import io.fabric8.kubernetes.model.annotation.Kind;
+import io.fabric8.kubernetes.model.annotation.Plural;
+import io.fabric8.kubernetes.model.annotation.Singular;
+import io.fabric8.kubernetes.model.annotation.Version;
+import io.javaoperatorsdk.operator.api.config.Cloner;
+import io.quarkiverse.operatorsdk.runtime.CopyOnWriteProxyFactory;
+import io.quarkiverse.operatorsdk.runtime.QuarkusControllerConfiguration;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+
+/**
+ * Generates copy-on-write proxies for custom resources along with the associated {@link CopyOnWriteProxyFactory}
+ * implementations. See {@link CopyOnWriteProxyFactory} for the semantics of the generated proxies.
+ */
+class CopyOnWriteProxyGeneration {
+    static final Logger log = Logger.getLogger(CopyOnWriteProxyGeneration.class.getName());
+
+    private static final String GENERATED_PACKAGE = "io.quarkiverse.operatorsdk.generated.";
+    private static final String PROXY_SUFFIX = "_CopyOnWrite";
+    private static final String FACTORY_SUFFIX = "_CopyOnWriteFactory";
+    private static final Set<String> NON_MUTATING_METHODS = Set.of("equals", "hashCode", "toString");
+    private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(String.class, Boolean.class, Character.class, Byte.class,
+            Short.class, Integer.class, Long.class, Float.class, Double.class);
+    private static final MethodDescriptor CLONE = MethodDescriptor.ofMethod(Cloner.class, "clone", HasMetadata.class,
+            HasMetadata.class);
+
+    private final ClassOutput classOutput;
+    private final Map<String, String> generatedFactories = new HashMap<>();
+    private final Set<String> generatedProxies = new HashSet<>();
+
+    CopyOnWriteProxyGeneration(ClassOutput classOutput) {
+        this.classOutput = classOutput;
+    }
+
+    /**
+     * Generates a copy-on-write proxy and its associated factory for the specified resource class if all the controllers
+     * using it as primary resource requested copy-on-write resources. Since cloners, and therefore proxies, are associated
+     * with resource types, enabling them when only some controllers opted in would hand proxies to reconcilers that might
+     * mutate nested objects in place, thus modifying the cached resources.
+     *
+     * @param resourceClass the primary resource class
+     * @param configurations the configurations of the controllers using the specified class as primary resource
+     */
+    @SuppressWarnings("rawtypes")
+    void generateIfRequestedByAll(Class<?> resourceClass, Collection<QuarkusControllerConfiguration> configurations) {
+        final var requesting = new ArrayList<String>(configurations.size());
+        final var notRequesting = new ArrayList<String>(configurations.size());
+        configurations.forEach(c -> (c.isCopyOnWrite() ? requesting : notRequesting).add(c.getName()));
+        if (requesting.isEmpty()) {
+            return;
+        }
+        if (!notRequesting.isEmpty()) {
+            log.warnv(
+                    "Copy-on-write resources requested by {0} controller(s) are not supported because ''{1}'' is also the primary resource of {2} controller(s) which didn''t request them: resources will be eagerly cloned",
+                    requesting, resourceClass.getName(), notRequesting);
+            return;
+        }
+        generateIfPossible(resourceClass, String.join(", ", requesting));
+    }
+
+    /**
+     * Generates a copy-on-write proxy and its associated factory for the specified resource class if possible and if they
+     * haven't already been generated
+     *
+     * @param resourceClass the resource class for which we want to generate a copy-on-write proxy
+     * @param controllerName the name of the controller requesting copy-on-write resources
+     */
+    void generateIfPossible(Class<?> resourceClass, String controllerName) {
+        final var resourceClassName = resourceClass.getName();
+        if (generatedFactories.containsKey(resourceClassName)) {
+            return;
+        }
+
+        final var classModifiers = resourceClass.getModifiers();
+        if (!CustomResource.class.isAssignableFrom(resourceClass) || Modifier.isFinal(classModifiers)
+                || !Modifier.isPublic(classModifiers)) {
+            log.warnv(
+                    "Copy-on-write resources requested by ''{0}'' controller are only supported for public, non-final custom resources: ''{1}'' will be eagerly cloned",
+                    controllerName, resourceClassName);
+            return;
+        }
+
+        final var mangled = GENERATED_PACKAGE + resourceClassName.replace('.', '_');
+        final var proxyClassName = mangled + PROXY_SUFFIX;
+        final var factoryClassName = mangled + FACTORY_SUFFIX;
+
+        generateProxy(resourceClass, proxyClassName);
+
+        try (ClassCreator factory = ClassCreator.builder()
+                .classOutput(classOutput)
+                .className(factoryClassName)
+                .interfaces(CopyOnWriteProxyFactory.class)
+                .build()) {
+            try (MethodCreator proxy = factory.getMethodCreator("proxy", HasMetadata.class, HasMetadata.class,
+                    Cloner.class)) {
+                final var original = proxy.checkCast(proxy.getMethodParam(0), resourceClass);
+                proxy.returnValue(proxy.newInstance(
+                        MethodDescriptor.ofConstructor(proxyClassName, resourceClass, Cloner.class),
+                        original, proxy.getMethodParam(1)));
+            }
+        }
+
+        generatedFactories.put(resourceClassName, factoryClassName);
+        generatedProxies.add(proxyClassName);
+        log.infov("Generated copy-on-write proxy for ''{0}'' resource of ''{1}'' controller", resourceClassName,
+                controllerName);
+    }
+
+    private void generateProxy(Class<?> resourceClass, String proxyClassName) {
+        try (ClassCreator proxy = ClassCreator.builder()
+                .classOutput(classOutput)
+                .className(proxyClassName)
+                .superClass(resourceClass)
+                .build()) {
+
+            // CustomResource relies on annotations to compute its API version, kind, etc. so propagate them
+            proxy.addAnnotation(Group.class).addValue("value", HasMetadata.getGroup(resourceClass));
+            proxy.addAnnotation(Version.class).addValue("value", HasMetadata.getVersion(resourceClass));
+            proxy.addAnnotation(Kind.class).addValue("value", HasMetadata.getKind(resourceClass));
+            final var plural = resourceClass.getAnnotation(Plural.class);
+            if (plural != null) {
+                proxy.addAnnotation(Plural.class).addValue("value", plural.value());
+            }
+            final var singular = resourceClass.getAnnotation(Singular.class);
+            if (singular != null) {
+                proxy.addAnnotation(Singular.class).addValue("value", singular.value());
+            }
+
+            final FieldDescriptor originalField = proxy.getFieldCreator("original", resourceClass)
+                    .setModifiers(Modifier.PRIVATE).getFieldDescriptor();
+            final FieldDescriptor copyField = proxy.getFieldCreator("copy", resourceClass)
+                    .setModifiers(Modifier.PRIVATE).getFieldDescriptor();
+            final FieldDescriptor clonerField = proxy.getFieldCreator("cloner", Cloner.class)
+                    .setModifiers(Modifier.PRIVATE).getFieldDescriptor();
+
+            try (MethodCreator constructor = proxy.getMethodCreator("<init>", void.class, resourceClass, Cloner.class)) {
+                constructor.invokeSpecialMethod(MethodDescriptor.ofConstructor(resourceClass), constructor.getThis());
+                constructor.writeInstanceField(originalField, constructor.getThis(), constructor.getMethodParam(0));
+                constructor.writeInstanceField(clonerField, constructor.getThis(), constructor.getMethodParam(1));
+                constructor.returnValue(null);
+            }
+
+            // the proxy never holds state of its own, so skip spec and status initialization
+            for (String init : new String[] { "initSpec", "initStatus" }) {
+                try (MethodCreator initializer = proxy.getMethodCreator(init, Object.class)) {
+                    initializer.setModifiers(Modifier.PROTECTED);
+                    initializer.returnValue(initializer.loadNull());
+                }
+            }
+
+            // returns the copy if it exists, the original otherwise
+            final MethodDescriptor current;
+            try (MethodCreator method = proxy.getMethodCreator("qosdk$current", resourceClass)) {
+                method.setModifiers(Modifier.PRIVATE);
+                final var copy = method.readInstanceField(copyField, method.getThis());
+                method.ifNull(copy).falseBranch().returnValue(copy);
+                method.returnValue(method.readInstanceField(originalField, method.getThis()));
+                current = method.getMethodDescriptor();
+            }
+
+            // copies the original if needed and returns the copy
+            final MethodDescriptor ensureCopy;
+            try (MethodCreator method = proxy.getMethodCreator("qosdk$copy", resourceClass)) {
+                method.setModifiers(Modifier.PRIVATE);
+                final var copy = method.readInstanceField(copyField, method.getThis());
+                method.ifNull(copy).falseBranch().returnValue(copy);
+                final var cloned = method.checkCast(method.invokeInterfaceMethod(CLONE,
+                        method.readInstanceField(clonerField, method.getThis()),
+                        method.readInstanceField(originalField, method.getThis())), resourceClass);
+                method.writeInstanceField(copyField, method.getThis(), cloned);
+                method.returnValue(cloned);
+                ensureCopy = method.getMethodDescriptor();
+            }
+
+            final var overridden = new HashSet<String>();
+            for (Method method : resourceClass.getMethods()) {
+                final var modifiers = method.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || method.isBridge()
+                        || method.isSynthetic()) {
+                    continue;
+                }
+                final var parameterTypes = method.getParameterTypes();
+                if (!overridden.add(method.getName() + Arrays.toString(parameterTypes))) {
+                    continue;
+                }
+
+                final var delegate = MethodDescriptor.ofMethod(resourceClass, method.getName(), method.getReturnType(),
+                        (Object[]) parameterTypes);
+                try (MethodCreator override = proxy.getMethodCreator(method.getName(), method.getReturnType(),
+                        (Object[]) parameterTypes)) {
+                    final var args = new ResultHandle[parameterTypes.length];
+                    for (int i = 0; i < args.length; i++) {
+                        args[i] = override.getMethodParam(i);
+                    }
+
+                    // fields are not yet set while the super constructor runs, in which case we call the super method
+                    final BytecodeCreator constructing = override
+                            .ifNull(override.readInstanceField(originalField, override.getThis())).trueBranch();
+                    constructing.returnValue(constructing.invokeSpecialMethod(delegate, constructing.getThis(), args));
+
+                    final var target = override.invokeSpecialMethod(isMutating(method) ? ensureCopy : current,
+                            override.getThis());
+                    override.returnValue(override.invokeVirtualMethod(delegate, target, args));
+                }
+            }
+        }
+    }
+
+    /**
+     * Conservatively considers any method that doesn't look like an accessor as mutating. Accessors returning mutable
+     * objects, e.g. {@code getSpec}, {@code getStatus} or {@code getMetadata}, are also considered mutating since the
+     * returned object could be modified in place, which would modify the original resource if it was returned.
+     */
+    private static boolean isMutating(Method method) {
+        final var name = method.getName();
+        if (NON_MUTATING_METHODS.contains(name)) {
+            return false;
+        }
+        final var accessor = name.startsWith("get") || name.startsWith("is") || name.startsWith("has");
+        return !accessor || !isImmutable(method.getReturnType());
+    }
+
+    private static boolean isImmutable(Class<?> type) {
+        return type.isPrimitive() || type.isEnum() || IMMUTABLE_TYPES.contains(type);
+    }
+
+    Map<String, String> getGeneratedFactories() {
+        return generatedFactories;
+    }
+
+    Set<String> getGeneratedProxies() {
+        return generatedProxies;
+    }
+}
@@ -0,0 +1,24 @@
+package io.quarkiverse.operatorsdk.deployment;
+
+import java.util.Map;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+public final class GeneratedClonersBuildItem extends SimpleBuildItem {
+    private final Map<String, String> resourceClassToClonerClassNames;
+    private final Map<String, String> resourceClassToCopyOnWriteFactoryClassNames;
+
+    public GeneratedClonersBuildItem(Map<String, String> resourceClassToClonerClassNames,
+            Map<String, String> resourceClassToCopyOnWriteFactoryClassNames) {
+        this.resourceClassToClonerClassNames = resourceClassToClonerClassNames;
+        this.resourceClassToCopyOnWriteFactoryClassNames = resourceClassToCopyOnWriteFactoryClassNames;
+    }
+
+    public Map<String, String> getGeneratedCloners() {
+        return resourceClassToClonerClassNames;
+    }
+
+    public Map<String, String> getCopyOnWriteFactories() {
+        return resourceClassToCopyOnWriteFactoryClassNames;
+    }
+}
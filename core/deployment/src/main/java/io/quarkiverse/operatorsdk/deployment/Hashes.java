@@ -0,0 +1,66 @@
+package io.quarkiverse.operatorsdk.deployment;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.TreeSet;
+
+/**
+ * Computes the hashes used to determine whether generated artifacts need to be generated again.
+ */
+final class Hashes {
+    private static final byte[] MISSING_CLASS = "<missing>".getBytes(StandardCharsets.UTF_8);
+
+    private Hashes() {
+    }
+
+    /**
+     * @param content the content to hash
+     * @return the hexadecimal SHA-256 hash of the specified content
+     */
+    static String sha256(byte[] content) {
+        return hex(newDigest().digest(content));
+    }
+
+    /**
+     * Computes a hash of the bytecode of the specified classes, as seen by the specified {@link ClassLoader}, so that any
+     * change to one of these classes results in a different hash. Classes which cannot be found are accounted for so that
+     * removing a class also changes the hash.
+     *
+     * @param classNames the fully-qualified names of the classes to take into account
+     * @param classLoader the {@link ClassLoader} used to retrieve the classes' bytecode
+     * @return the hexadecimal SHA-256 hash of the specified classes
+     */
+    static String ofClasses(Collection<String> classNames, ClassLoader classLoader) {
+        final var digest = newDigest();
+        // sort class names so that the hash doesn't depend on the iteration order of the specified collection
+        for (String className : new TreeSet<>(classNames)) {
+            digest.update(className.getBytes(StandardCharsets.UTF_8));
+            try (var bytecode = classLoader.getResourceAsStream(className.replace('.', '/') + ".class")) {
+                digest.update(bytecode != null ? bytecode.readAllBytes() : MISSING_CLASS);
+            } catch (IOException e) {
+                digest.update(MISSING_CLASS);
+            }
+        }
+        return hex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 support is mandated by the Java platform specification
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String hex(byte[] digest) {
+        final var hash = new StringBuilder(digest.length * 2);
+        for (byte b : digest) {
+            hash.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hash.toString();
+    }
+}
@@ -6,6 +6,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executors;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -30,30 +31,43 @@ import io.quarkiverse.operatorsdk.runtime.BuildTimeOperatorConfiguration;
 import io.quarkiverse.operatorsdk.runtime.CRDConfiguration;
 import io.quarkiverse.operatorsdk.runtime.CRDGenerationInfo;
 import io.quarkiverse.operatorsdk.runtime.CRDInfo;
+import io.quarkiverse.operatorsdk.runtime.ClonerStrategy;
 import io.quarkiverse.operatorsdk.runtime.ConfigurationServiceRecorder;
+import io.quarkiverse.operatorsdk.runtime.DependentResourceSpecMetadata;
+import io.quarkiverse.operatorsdk.runtime.ExecutorType;
 import io.quarkiverse.operatorsdk.runtime.KubernetesClientSerializationCustomizer;
 import io.quarkiverse.operatorsdk.runtime.NoOpMetricsProvider;
 import io.quarkiverse.operatorsdk.runtime.OperatorHealthCheck;
+import io.quarkiverse.operatorsdk.runtime.OperatorHealthSnapshot;
 import io.quarkiverse.operatorsdk.runtime.OperatorProducer;
+import io.quarkiverse.operatorsdk.runtime.OperatorReactiveHealthCheck;
 import io.quarkiverse.operatorsdk.runtime.QuarkusConfigurationService;
+import io.quarkiverse.operatorsdk.runtime.QuarkusControllerConfiguration;
 import io.quarkiverse.operatorsdk.runtime.RunTimeOperatorConfiguration;
 import io.quarkiverse.operatorsdk.runtime.Version;
+import io.quarkiverse.operatorsdk.runtime.WatchedNamespacesManager;
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.bootstrap.app.ClassChangeInformation;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
+import io.quarkus.deployment.IsDevelopment;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.IndexDependencyBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.LiveReloadBuildItem;
 import io.quarkus.deployment.builditem.RunTimeConfigurationDefaultBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ForceNonWeakReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveMethodBuildItem;
 import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
 import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
 import io.quarkus.gizmo.AssignableResultHandle;
@@ -73,6 +87,9 @@ class OperatorSDKProcessor {
 
     private static final String FEATURE = "operator-sdk";
     private static final String DEFAULT_METRIC_BINDER_CLASS_NAME = "io.quarkiverse.operatorsdk.runtime.MicrometerMetricsProvider";
+    private static final String INFORMER_CACHE_METRIC_BINDER_CLASS_NAME = "io.quarkiverse.operatorsdk.runtime.InformerCacheMetricsBinder";
+    private static final String EXECUTOR_METRIC_BINDER_CLASS_NAME = "io.quarkiverse.operatorsdk.runtime.ExecutorMetricsBinder";
+    private static final String TRACING_CLASS_NAME = "io.quarkiverse.operatorsdk.runtime.OpenTelemetryTracing";
 
     private BuildTimeOperatorConfiguration buildTimeConfiguration;
 
@@ -81,7 +98,9 @@ class OperatorSDKProcessor {
             BuildProducer<FeatureBuildItem> features,
             BuildProducer<UnremovableBeanBuildItem> unremovableBeans,
             Optional<MetricsCapabilityBuildItem> metricsCapability,
-            BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+            Capabilities capabilities,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeans,
+            BuildProducer<ReflectiveMethodBuildItem> reflectionMethods) {
         features.produce(new FeatureBuildItem(FEATURE));
         indexDependency.produce(
                 new IndexDependencyBuildItem("io.javaoperatorsdk", "operator-framework-core"));
@@ -101,12 +120,26 @@ class OperatorSDKProcessor {
         if (metricsCapability.map(m -> m.metricsSupported(MetricsFactory.MICROMETER)).orElse(false)) {
             // we use the class name to not import any micrometer-related dependencies to prevent activation
             additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(DEFAULT_METRIC_BINDER_CLASS_NAME));
+            additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(INFORMER_CACHE_METRIC_BINDER_CLASS_NAME));
+            additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(EXECUTOR_METRIC_BINDER_CLASS_NAME));
         } else {
             additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(NoOpMetricsProvider.class));
         }
 
+        // add tracing if OpenTelemetry is present, using the class name for the same reason as above
+        if (capabilities.isPresent(Capability.OPENTELEMETRY_TRACER)) {
+            additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(TRACING_CLASS_NAME));
+        }
+
         // register health check
-        additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(OperatorHealthCheck.class));
+        additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(OperatorHealthSnapshot.class));
+        additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(buildTimeConfiguration.reactiveHealthCheck
+                ? OperatorReactiveHealthCheck.class
+                : OperatorHealthCheck.class));
+
+        // the virtual thread executor factory method is looked up reflectively, see ExecutorType
+        reflectionMethods.produce(new ReflectiveMethodBuildItem(Executors.class.getName(),
+                ExecutorType.NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR_METHOD, new String[0]));
     }
 
     @BuildStep
@@ -116,12 +149,15 @@ class OperatorSDKProcessor {
             RunTimeOperatorConfiguration runTimeConfiguration,
             BuildProducer<SyntheticBeanBuildItem> syntheticBeanBuildItemBuildProducer,
             GeneratedCRDInfoBuildItem generatedCRDs,
+            GeneratedClonersBuildItem generatedCloners,
             ConfigurationServiceBuildItem serviceBuildItem,
             LaunchModeBuildItem launchMode) {
         final var supplier = recorder
                 .configurationServiceSupplier(serviceBuildItem.getVersion(),
                         serviceBuildItem.getControllerConfigs(),
                         generatedCRDs.getCRDGenerationInfo(),
+                        generatedCloners.getGeneratedCloners(),
+                        generatedCloners.getCopyOnWriteFactories(),
                         runTimeConfiguration, buildTimeConfiguration, launchMode.getLaunchMode());
         syntheticBeanBuildItemBuildProducer.produce(
                 SyntheticBeanBuildItem.configure(QuarkusConfigurationService.class)
@@ -133,6 +169,53 @@ class OperatorSDKProcessor {
                         .done());
     }
 
+    @BuildStep(onlyIf = IsDevelopment.class)
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void configureDevMode(ConfigurationServiceRecorder recorder) {
+        recorder.configureDevMode(buildTimeConfiguration.devMode);
+    }
+
+    @BuildStep
+    @SuppressWarnings("rawtypes")
+    GeneratedClonersBuildItem generateResourceCloners(ConfigurationServiceBuildItem serviceBuildItem,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<ReflectiveClassBuildItem> reflectionClasses) {
+        final var classOutput = new GeneratedClassGizmoAdaptor(generatedClasses, true);
+        final var configurations = serviceBuildItem.getControllerConfigs().values();
+
+        // only generate cloners if they are going to be used
+        final var generatedClonersRequested = buildTimeConfiguration.cloner == ClonerStrategy.GENERATED
+                || buildTimeConfiguration.controllers.values().stream()
+                        .anyMatch(c -> c.cloner.filter(ClonerStrategy.GENERATED::equals).isPresent());
+        final var clonerGeneration = new ClonerGeneration(classOutput);
+        if (generatedClonersRequested) {
+            configurations.forEach(configuration -> {
+                clonerGeneration.generateIfPossible(configuration.getResourceClass());
+                configuration.getDependentsMetadata().values()
+                        .forEach(spec -> clonerGeneration
+                                .generateIfPossible(((DependentResourceSpecMetadata) spec).getDependentType()));
+            });
+        }
+
+        final var copyOnWriteGeneration = new CopyOnWriteProxyGeneration(classOutput);
+        // proxies are associated with resource types so they are only used if all controllers sharing a type opt in
+        configurations.stream()
+                .collect(Collectors.groupingBy(QuarkusControllerConfiguration::getResourceClass))
+                .forEach(copyOnWriteGeneration::generateIfRequestedByAll);
+
+        final var generated = clonerGeneration.getGenerated();
+        final var copyOnWriteFactories = copyOnWriteGeneration.getGeneratedFactories();
+        // generated cloners and factories are instantiated reflectively at runtime
+        generated.values().forEach(clonerClassName -> reflectionClasses
+                .produce(new ReflectiveClassBuildItem(true, false, clonerClassName)));
+        copyOnWriteFactories.values().forEach(factoryClassName -> reflectionClasses
+                .produce(new ReflectiveClassBuildItem(true, false, factoryClassName)));
+        // proxies need to be serializable by Jackson
+        copyOnWriteGeneration.getGeneratedProxies().forEach(proxyClassName -> reflectionClasses
+                .produce(new ReflectiveClassBuildItem(false, true, proxyClassName)));
+        return new GeneratedClonersBuildItem(generated, copyOnWriteFactories);
+    }
+
     private void checkVersionCompatibility(String found, String expected, String name) {
         if (!found.equals(expected)) {
             String message = "Incompatible " + name + " version found: \"" + found + "\", expected: \"" + expected + "\"";
@@ -216,14 +299,16 @@ class OperatorSDKProcessor {
                             final var crInfo = raci.associatedResourceInfo().asResourceTargeting();
                             // When we have a live reload, check if we need to regenerate the associated CRD
                             Map<String, CRDInfo> crdInfos = Collections.emptyMap();
+                            Map<String, String> inputsHashes = Collections.emptyMap();
 
                             final String targetCRName = crInfo.fullResourceName();
                             if (liveReload.isLiveReload()) {
                                 crdInfos = storedCRDInfos.getCRDInfosFor(targetCRName);
+                                inputsHashes = storedCRDInfos.getInputsHashesFor(targetCRName);
                             }
 
                             if (crdGeneration.scheduleForGenerationIfNeeded((CustomResourceAugmentedClassInfo) crInfo, crdInfos,
-                                    changedClasses)) {
+                                    inputsHashes, changedClasses)) {
                                 scheduledForGeneration.add(targetCRName);
                             }
                         }
@@ -254,14 +339,14 @@ class OperatorSDKProcessor {
                     });
         }
 
-        CRDGenerationInfo crdInfo = crdGeneration.generate(outputTarget, validateCustomResources,
-                storedCRDInfos.getExisting());
+        CRDGenerationInfo crdInfo = crdGeneration.generate(outputTarget, validateCustomResources, storedCRDInfos);
         Map<String, Map<String, CRDInfo>> generatedCRDs = crdInfo.getCrds();
         storedCRDInfos.putAll(generatedCRDs);
         liveReload.setContextObject(ContextStoredCRDInfos.class,
                 storedCRDInfos); // record CRD generation info in context for future use
 
         additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(OperatorProducer.class));
+        additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(WatchedNamespacesManager.class));
 
         // if the app doesn't provide a main class, add the AppEventListener
         if (index.getAllKnownImplementors(DotName.createSimple(QuarkusApplication.class.getName()))
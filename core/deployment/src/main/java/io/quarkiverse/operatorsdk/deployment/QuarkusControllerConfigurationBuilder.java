@@ -222,7 +222,8 @@ class QuarkusControllerConfigurationBuilder {
                     maxReconciliationInterval,
                     onAddFilter, onUpdateFilter, genericFilter, retryClass, retryConfigurationClass,
                     rateLimiterClass,
-                    rateLimiterConfigurationClass, dependentResources, null);
+                    rateLimiterConfigurationClass, dependentResources, null,
+                    configExtractor.copyOnWrite());
 
             if (hasDependents) {
                 QuarkusControllerConfiguration finalConfiguration = configuration;
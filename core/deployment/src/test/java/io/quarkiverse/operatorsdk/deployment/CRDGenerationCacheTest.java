@@ -0,0 +1,56 @@
+package io.quarkiverse.operatorsdk.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CRDGenerationCacheTest {
+    private static final String CRD_NAME = "foos.example.com";
+    private static final Set<String> RESOURCES = Set.of(String.class.getName());
+    private static final Set<String> DEPENDENTS = Set.of(Integer.class.getName(), Long.class.getName());
+    private static final String SETTINGS = "versions=v1";
+    private static final byte[] CONTENT = "kind: CustomResourceDefinition".getBytes(StandardCharsets.UTF_8);
+
+    private final ClassLoader classLoader = getClass().getClassLoader();
+
+    @Test
+    void shouldRetrieveCachedCRDWhenInputsDidNotChange(@TempDir Path dir) {
+        new CRDGenerationCache(dir, SETTINGS).put(CRD_NAME, "v1", RESOURCES, DEPENDENTS, CONTENT, classLoader);
+
+        // a new cache instance simulates a new build
+        final var entry = new CRDGenerationCache(dir, SETTINGS).get(CRD_NAME, "v1", RESOURCES, classLoader).orElseThrow();
+        assertArrayEquals(CONTENT, entry.getContent());
+        assertEquals(DEPENDENTS, entry.getDependentClassNames());
+    }
+
+    @Test
+    void shouldNotRetrieveCachedCRDWhenInputsChanged(@TempDir Path dir) throws IOException {
+        final var cache = new CRDGenerationCache(dir, SETTINGS);
+        cache.put(CRD_NAME, "v1", RESOURCES, DEPENDENTS, CONTENT, classLoader);
+
+        assertTrue(cache.get(CRD_NAME, "v1beta1", RESOURCES, classLoader).isEmpty());
+        assertTrue(cache.get(CRD_NAME, "v1", Set.of(String.class.getName(), Short.class.getName()), classLoader).isEmpty());
+
+        // cached content which doesn't match its recorded hash should be ignored
+        try (var contents = Files.list(dir.resolve("contents"))) {
+            Files.writeString(contents.findFirst().orElseThrow(), "tampered");
+        }
+        assertTrue(cache.get(CRD_NAME, "v1", RESOURCES, classLoader).isEmpty());
+    }
+
+    @Test
+    void shouldNotRetrieveCachedCRDWhenGenerationSettingsChanged(@TempDir Path dir) {
+        new CRDGenerationCache(dir, SETTINGS).put(CRD_NAME, "v1", RESOURCES, DEPENDENTS, CONTENT, classLoader);
+
+        assertTrue(new CRDGenerationCache(dir, "versions=v1,v1beta1").get(CRD_NAME, "v1", RESOURCES, classLoader).isEmpty());
+    }
+}
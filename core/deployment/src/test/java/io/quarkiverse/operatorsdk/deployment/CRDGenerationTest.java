@@ -1,16 +1,38 @@
 package io.quarkiverse.operatorsdk.deployment;
 
+import static io.quarkiverse.operatorsdk.deployment.CRDGeneration.establishedTimeout;
 import static io.quarkiverse.operatorsdk.deployment.CRDGeneration.shouldApply;
 import static io.quarkiverse.operatorsdk.deployment.CRDGeneration.shouldGenerate;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.stream.Stream;
 
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import io.fabric8.kubernetes.api.model.Namespaced;
+import io.fabric8.kubernetes.client.CustomResource;
+import io.fabric8.kubernetes.model.annotation.Group;
+import io.fabric8.kubernetes.model.annotation.Version;
+import io.quarkiverse.operatorsdk.runtime.CRDConfiguration;
+import io.quarkiverse.operatorsdk.runtime.CRDUtils;
+import io.quarkiverse.operatorsdk.test.sources.TestCR;
 import io.quarkus.runtime.LaunchMode;
 
 class CRDGenerationTest {
@@ -79,4 +101,114 @@ class CRDGenerationTest {
     void shouldApplyShouldWork(Optional<Boolean> configuredApply, LaunchMode mode, boolean expected) {
         assertEquals(expected, shouldApply(configuredApply, mode));
     }
-}
\ No newline at end of file
+
+    @Test
+    void establishedTimeoutShouldNotWaitInTestModeByDefault() {
+        assertEquals(Duration.ZERO, establishedTimeout(Optional.empty(), LaunchMode.TEST));
+        assertEquals(CRDUtils.DEFAULT_ESTABLISHED_TIMEOUT, establishedTimeout(Optional.empty(), LaunchMode.DEVELOPMENT));
+        assertEquals(Duration.ofSeconds(2), establishedTimeout(Optional.of(Duration.ofSeconds(2)), LaunchMode.TEST));
+        assertEquals(Duration.ZERO, establishedTimeout(Optional.of(Duration.ZERO), LaunchMode.DEVELOPMENT));
+    }
+
+    @Test
+    void contentHashShouldOnlyDependOnContent() {
+        final var hash = CRDGeneration.contentHash("kind: CustomResourceDefinition".getBytes(StandardCharsets.UTF_8));
+        assertEquals(64, hash.length());
+        assertEquals(hash, CRDGeneration.contentHash("kind: CustomResourceDefinition".getBytes(StandardCharsets.UTF_8)));
+        assertNotEquals(hash, CRDGeneration.contentHash("kind: CustomResourceDefinition\n".getBytes(StandardCharsets.UTF_8)));
+        assertNull(CRDGeneration.contentHash(null));
+    }
+
+    @Test
+    void changedFilesOutputShouldOnlyWriteChangedFiles(@TempDir Path dir) throws IOException {
+        final var unchanged = Files.writeString(dir.resolve("unchanged-v1.yml"), "unchanged");
+        Files.writeString(dir.resolve("changed-v1.yml"), "before");
+        final var lastModified = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(unchanged, lastModified);
+
+        final var output = new ChangedFilesCRDOutput(dir.toFile());
+        output.outputFor("unchanged-v1").write("unchanged".getBytes(StandardCharsets.UTF_8));
+        output.outputFor("changed-v1").write("after".getBytes(StandardCharsets.UTF_8));
+        output.outputFor("new-v1").write("new".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(2, output.writeChangedFiles());
+        assertEquals(lastModified, Files.getLastModifiedTime(unchanged));
+        assertEquals("after", Files.readString(dir.resolve("changed-v1.yml")));
+        assertEquals("new", Files.readString(dir.resolve("new-v1.yml")));
+        assertEquals(dir.resolve("new-v1.yml").toUri(), output.crdURI("new-v1"));
+    }
+
+    @Test
+    void classesHashShouldChangeWhenClassesChange() {
+        final var classLoader = getClass().getClassLoader();
+        final var hash = Hashes.ofClasses(List.of(String.class.getName(), Integer.class.getName()), classLoader);
+        assertEquals(hash, Hashes.ofClasses(List.of(Integer.class.getName(), String.class.getName()), classLoader));
+        assertNotEquals(hash, Hashes.ofClasses(List.of(String.class.getName()), classLoader));
+        assertNotEquals(hash, Hashes.ofClasses(List.of(String.class.getName(), "does.not.Exist"), classLoader));
+    }
+
+    @Test
+    void parallelGenerationShouldGenerateTheSameCRDs(@TempDir Path dir) {
+        final var expected = generate(false, dir.resolve("sequential"));
+        assertEquals(8, expected.size());
+        for (int i = 0; i < 10; i++) {
+            final var actual = generate(true, dir.resolve("parallel-" + i));
+            assertEquals(expected.keySet(), actual.keySet());
+            expected.forEach((name, content) -> assertArrayEquals(content, actual.get(name), name));
+        }
+    }
+
+    /**
+     * @return the content of the generated CRDs per output name
+     */
+    private static Map<String, byte[]> generate(boolean inParallel, Path dir) {
+        final var configuration = new CRDConfiguration();
+        configuration.generate = Optional.of(true);
+        configuration.apply = Optional.empty();
+        configuration.establishedTimeout = Optional.empty();
+        configuration.versions = List.of("v1", "v1beta1");
+        configuration.outputDirectory = CRDConfiguration.DEFAULT_OUTPUT_DIRECTORY;
+        configuration.generateInParallel = inParallel;
+        configuration.generationCache = false;
+
+        final var generation = new CRDGeneration(configuration, LaunchMode.NORMAL);
+        List.of(TestCR.class, Apple.class, Banana.class, Cherry.class)
+                .forEach(crClass -> generation.withCustomResource(crClass, CustomResource.getCRDName(crClass), null));
+
+        final var output = new ChangedFilesCRDOutput(dir.toFile());
+        final var generated = generation.generateScheduledCRDs(output, CRDGenerationTest.class.getClassLoader());
+        final var contents = new TreeMap<String, byte[]>();
+        generated.forEach((crdName, versions) -> versions.keySet().forEach(version -> {
+            final var outputName = crdName + "-" + version;
+            contents.put(outputName, output.contentFor(outputName));
+        }));
+        return contents;
+    }
+
+    @Group("fruits.example.com")
+    @Version("v1")
+    public static class Apple extends CustomResource<FruitSpec, FruitStatus> implements Namespaced {
+    }
+
+    @Group("fruits.example.com")
+    @Version("v1")
+    public static class Banana extends CustomResource<FruitSpec, FruitStatus> implements Namespaced {
+    }
+
+    @Group("other.example.com")
+    @Version("v1")
+    public static class Cherry extends CustomResource<FruitSpec, Void> {
+    }
+
+    public static class FruitSpec {
+        public String variety;
+        public int weight;
+        public List<String> origins;
+        public Map<String, Integer> ratings;
+    }
+
+    public static class FruitStatus {
+        public boolean ripe;
+        public List<String> conditions;
+    }
+}
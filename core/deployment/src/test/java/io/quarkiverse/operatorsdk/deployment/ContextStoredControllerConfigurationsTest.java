@@ -0,0 +1,64 @@
+package io.quarkiverse.operatorsdk.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+
+import org.eclipse.microprofile.config.Config;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+class ContextStoredControllerConfigurationsTest {
+
+    @Test
+    void shouldOnlyRetainExtensionWideAndControllerSpecificProperties() {
+        final var config = config(Map.of(
+                "quarkus.operator-sdk.concurrent-reconciliation-threads", "5",
+                "quarkus.operator-sdk.controllers.foo.namespaces", "foo-ns",
+                "quarkus.operator-sdk.controllers.bar.namespaces", "bar-ns",
+                "quarkus.http.port", "8080",
+                "other.property", "value"));
+
+        assertEquals(Map.of(
+                "quarkus.operator-sdk.concurrent-reconciliation-threads", "5",
+                "quarkus.operator-sdk.controllers.foo.namespaces", "foo-ns"),
+                ContextStoredControllerConfigurations.configurationPropertiesFor(config, "foo"));
+    }
+
+    @Test
+    void shouldIgnorePropertiesOfControllersWhoseNameStartsWithTheControllerName() {
+        final var config = config(Map.of(
+                "quarkus.operator-sdk.controllers.foo.namespaces", "foo-ns",
+                "quarkus.operator-sdk.controllers.foobar.namespaces", "foobar-ns"));
+
+        assertEquals(Map.of("quarkus.operator-sdk.controllers.foo.namespaces", "foo-ns"),
+                ContextStoredControllerConfigurations.configurationPropertiesFor(config, "foo"));
+        assertEquals(Map.of("quarkus.operator-sdk.controllers.foobar.namespaces", "foobar-ns"),
+                ContextStoredControllerConfigurations.configurationPropertiesFor(config, "foobar"));
+    }
+
+    @Test
+    void shouldRetainPropertiesOfQuotedControllerNames() {
+        final var config = config(Map.of(
+                "quarkus.operator-sdk.controllers.\"foo.example.com\".namespaces", "foo-ns",
+                "quarkus.operator-sdk.controllers.\"foo.example.com.other\".namespaces", "other-ns",
+                "quarkus.operator-sdk.controllers.foo.namespaces", "unrelated-ns"));
+
+        assertEquals(Map.of("quarkus.operator-sdk.controllers.\"foo.example.com\".namespaces", "foo-ns"),
+                ContextStoredControllerConfigurations.configurationPropertiesFor(config, "foo.example.com"));
+    }
+
+    @Test
+    void shouldReturnNoPropertiesWhenNoneAreDefined() {
+        assertEquals(Map.of(), ContextStoredControllerConfigurations.configurationPropertiesFor(
+                config(Map.of("quarkus.http.port", "8080")), "foo"));
+    }
+
+    private static Config config(Map<String, String> properties) {
+        return new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(properties, "test", 100))
+                .build();
+    }
+}
@@ -0,0 +1,206 @@
+package io.quarkiverse.operatorsdk.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Namespaced;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.client.CustomResource;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.kubernetes.model.annotation.Group;
+import io.fabric8.kubernetes.model.annotation.Version;
+import io.javaoperatorsdk.operator.api.config.Cloner;
+import io.javaoperatorsdk.operator.processing.retry.GenericRetry;
+import io.quarkiverse.operatorsdk.runtime.CopyOnWriteProxyFactory;
+import io.quarkiverse.operatorsdk.runtime.QuarkusControllerConfiguration;
+import io.quarkus.gizmo.ClassOutput;
+
+class CopyOnWriteProxyGenerationTest {
+
+    @Test
+    void generatedProxyShouldOnlyCloneOnMutation() throws Exception {
+        final var factory = proxyFactory();
+        final var cached = new CowResource();
+        cached.setMetadata(new ObjectMetaBuilder().withName("cow").withNamespace("default").build());
+        cached.setSpec(new CowSpec("original"));
+        final var cloner = new JsonCloner();
+
+        final var proxy = (CowResource) factory.proxy(cached, cloner);
+        assertInstanceOf(CowResource.class, proxy);
+        assertNotSame(cached, proxy);
+
+        // reads of immutable values are delegated to the cached resource without cloning it
+        assertEquals(cached.getKind(), proxy.getKind());
+        assertEquals(cached.getApiVersion(), proxy.getApiVersion());
+        assertFalse(proxy.isMarkedForDeletion());
+        assertEquals(0, cloner.clones.get());
+
+        // the first mutation clones the cached resource, which is left untouched
+        proxy.setSpec(new CowSpec("modified"));
+        assertEquals(1, cloner.clones.get());
+        assertEquals("modified", proxy.getSpec().getValue());
+        assertEquals("original", cached.getSpec().getValue());
+
+        // subsequent calls go to the clone
+        proxy.setStatus(new CowStatus("done"));
+        assertEquals(1, cloner.clones.get());
+        assertEquals("done", proxy.getStatus().getState());
+        assertNull(cached.getStatus());
+    }
+
+    @Test
+    void mutationsThroughGettersShouldNotModifyTheCachedResource() throws Exception {
+        final var factory = proxyFactory();
+        final var cached = new CowResource();
+        cached.setMetadata(new ObjectMetaBuilder().withName("cow").withResourceVersion("1").build());
+        cached.setSpec(new CowSpec("original"));
+        cached.setStatus(new CowStatus("pending"));
+
+        final var proxy = (CowResource) factory.proxy(cached, new JsonCloner());
+        proxy.getSpec().setValue("modified");
+        proxy.getStatus().setState("done");
+        proxy.getMetadata().setResourceVersion("2");
+        proxy.getMetadata().getFinalizers().add("example.com/finalizer");
+
+        assertEquals("modified", proxy.getSpec().getValue());
+        assertEquals("done", proxy.getStatus().getState());
+        assertEquals("2", proxy.getMetadata().getResourceVersion());
+        assertTrue(proxy.hasFinalizer("example.com/finalizer"));
+        assertEquals("original", cached.getSpec().getValue());
+        assertEquals("pending", cached.getStatus().getState());
+        assertEquals("1", cached.getMetadata().getResourceVersion());
+        assertTrue(cached.getMetadata().getFinalizers().isEmpty());
+    }
+
+    @Test
+    void shouldOnlyGenerateProxiesIfAllControllersSharingTypeOptIn() {
+        final var classLoader = new GeneratedClassLoader();
+        final var generation = new CopyOnWriteProxyGeneration(classLoader);
+
+        generation.generateIfRequestedByAll(CowResource.class, List.of(configuration("a", false)));
+        assertTrue(classLoader.generated.isEmpty());
+
+        // a controller which didn't opt in could otherwise be handed proxies and mutate the cache through them
+        generation.generateIfRequestedByAll(CowResource.class,
+                List.of(configuration("a", true), configuration("b", false)));
+        assertTrue(generation.getGeneratedFactories().isEmpty());
+        assertTrue(classLoader.generated.isEmpty());
+
+        generation.generateIfRequestedByAll(CowResource.class,
+                List.of(configuration("a", true), configuration("c", true)));
+        assertTrue(generation.getGeneratedFactories().containsKey(CowResource.class.getName()));
+    }
+
+    private static CopyOnWriteProxyFactory proxyFactory() throws Exception {
+        final var classLoader = new GeneratedClassLoader();
+        final var generation = new CopyOnWriteProxyGeneration(classLoader);
+        generation.generateIfPossible(CowResource.class, "cow");
+        return (CopyOnWriteProxyFactory) classLoader
+                .loadClass(generation.getGeneratedFactories().get(CowResource.class.getName()))
+                .getDeclaredConstructor().newInstance();
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static QuarkusControllerConfiguration configuration(String name, boolean copyOnWrite) {
+        return new QuarkusControllerConfiguration<>(name + "Reconciler", name,
+                HasMetadata.getFullResourceName(CowResource.class), "v1", true, CowResource.class, Set.of(), false, null,
+                null, true, null, null, null, null, null, GenericRetry.class, null,
+                QuarkusControllerConfiguration.DefaultRateLimiter.class, null, Map.of(), null, copyOnWrite);
+    }
+
+    @Group("example.com")
+    @Version("v1")
+    public static class CowResource extends CustomResource<CowSpec, CowStatus> implements Namespaced {
+    }
+
+    public static class CowSpec {
+        private String value;
+
+        public CowSpec() {
+        }
+
+        public CowSpec(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+    }
+
+    public static class CowStatus {
+        private String state;
+
+        public CowStatus() {
+        }
+
+        public CowStatus(String state) {
+            this.state = state;
+        }
+
+        public String getState() {
+            return state;
+        }
+
+        public void setState(String state) {
+            this.state = state;
+        }
+    }
+
+    private static class JsonCloner implements Cloner {
+        private final AtomicInteger clones = new AtomicInteger();
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <R extends HasMetadata> R clone(R object) {
+            clones.incrementAndGet();
+            final var mapper = Serialization.jsonMapper();
+            try {
+                return (R) mapper.readValue(mapper.writeValueAsString(object), object.getClass());
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static class GeneratedClassLoader extends ClassLoader implements ClassOutput {
+        private final Map<String, byte[]> generated = new HashMap<>();
+
+        private GeneratedClassLoader() {
+            super(CopyOnWriteProxyGenerationTest.class.getClassLoader());
+        }
+
+        @Override
+        public void write(String name, byte[] data) {
+            generated.put(name.replace('/', '.'), data);
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            final var bytes = generated.get(name);
+            if (bytes == null) {
+                throw new ClassNotFoundException(name);
+            }
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class AdaptiveConcurrencyConfiguration {
+
+    /**
+     * Whether the number of concurrent reconciliations should be adjusted at runtime based on observed reconciliation
+     * latency, in which case {@code concurrent-reconciliation-threads} becomes the upper bound of the number of concurrent
+     * reconciliations instead of a fixed value.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The initial number of concurrent reconciliations, defaults to half of the upper bound
+     */
+    @ConfigItem
+    public Optional<Integer> initialLimit;
+
+    /**
+     * The minimum number of concurrent reconciliations
+     */
+    @ConfigItem(defaultValue = "1")
+    public int minLimit;
+
+    /**
+     * Reconciliations taking longer than this are considered a sign of overload, e.g. because the API server is
+     * throttling requests or failing, which the Kubernetes client retries with backoff, and decrease the concurrency limit,
+     * as do throttled ({@code 429}) or failed ({@code 5xx}) API server responses. The limit is decreased at most once per
+     * threshold. Faster reconciliations slowly increase it.
+     */
+    @ConfigItem(defaultValue = "5S")
+    public Duration latencyThreshold;
+
+    /**
+     * The ratio by which the concurrency limit is multiplied when overload is detected
+     */
+    @ConfigItem(defaultValue = "0.75")
+    public double backoffRatio;
+}
@@ -0,0 +1,178 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * An {@link ExecutorService} limiting how many tasks its delegate runs concurrently, adjusting that limit using an
+ * additive-increase / multiplicative-decrease (AIMD) scheme based on how long tasks take to complete: tasks completing
+ * under the latency threshold increase the limit by one each time the limit's worth of tasks complete while tasks
+ * exceeding it, or the API server throttling or failing requests, multiply the limit by the backoff ratio. Overload is only
+ * acted upon once per latency threshold window: tasks running when the limit decreases were started under the previous
+ * limit and are likely to be slow as well, so they shouldn't decrease it further. Tasks that cannot run right away are
+ * queued.
+ */
+class AdaptiveConcurrencyExecutorService extends AbstractExecutorService {
+    private final ExecutorService delegate;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final LongSupplier nanoTime;
+    private final Deque<Runnable> queued = new ArrayDeque<>();
+    private double limit;
+    private int inFlight;
+    private long lastDecrease;
+    private boolean decreased;
+    private boolean shutdown;
+
+    AdaptiveConcurrencyExecutorService(ExecutorService delegate, int maxLimit,
+            AdaptiveConcurrencyConfiguration configuration) {
+        this(delegate, configuration.minLimit, configuration.initialLimit.orElse(Math.max(maxLimit / 2, 1)), maxLimit,
+                configuration.latencyThreshold.toNanos(), configuration.backoffRatio, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyExecutorService(ExecutorService delegate, int minLimit, int initialLimit, int maxLimit,
+            long latencyThresholdNanos, double backoffRatio, LongSupplier nanoTime) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException(
+                    "Adaptive concurrency min limit must be between 1 and " + maxLimit + ", got: " + minLimit);
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException(
+                    "Adaptive concurrency backoff ratio must be strictly between 0 and 1, got: " + backoffRatio);
+        }
+        this.delegate = delegate;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.backoffRatio = backoffRatio;
+        this.nanoTime = nanoTime;
+        this.limit = Math.min(Math.max(initialLimit, minLimit), maxLimit);
+    }
+
+    /**
+     * @return the current maximum number of concurrently running tasks
+     */
+    synchronized int currentLimit() {
+        return (int) limit;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        synchronized (this) {
+            if (shutdown) {
+                throw new RejectedExecutionException("Executor has been shut down");
+            }
+            if (inFlight >= (int) limit) {
+                queued.add(task);
+                return;
+            }
+            inFlight++;
+        }
+        dispatch(task);
+    }
+
+    private void dispatch(Runnable task) {
+        try {
+            delegate.execute(() -> {
+                final var start = nanoTime.getAsLong();
+                try {
+                    task.run();
+                } finally {
+                    completed(nanoTime.getAsLong() - start);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            synchronized (this) {
+                inFlight--;
+            }
+            throw e;
+        }
+    }
+
+    private void completed(long latencyNanos) {
+        final List<Runnable> toDispatch;
+        synchronized (this) {
+            inFlight--;
+            adjustLimit(latencyNanos);
+            // queued tasks won't be accepted by the delegate anymore once shut down
+            if (shutdown) {
+                queued.clear();
+            }
+            if (queued.isEmpty()) {
+                return;
+            }
+            toDispatch = new ArrayList<>();
+            while (inFlight < (int) limit && !queued.isEmpty()) {
+                toDispatch.add(queued.poll());
+                inFlight++;
+            }
+        }
+        toDispatch.forEach(this::dispatch);
+    }
+
+    synchronized void adjustLimit(long latencyNanos) {
+        if (latencyNanos > latencyThresholdNanos) {
+            overloadDetected();
+        } else {
+            limit = Math.min(limit + 1 / limit, maxLimit);
+        }
+    }
+
+    /**
+     * Decreases the limit unless it has already been decreased during the current latency threshold window
+     */
+    synchronized void overloadDetected() {
+        final var now = nanoTime.getAsLong();
+        if (decreased && now - lastDecrease < latencyThresholdNanos) {
+            return;
+        }
+        limit = Math.max(limit * backoffRatio, minLimit);
+        lastDecrease = now;
+        decreased = true;
+    }
+
+    @Override
+    public void shutdown() {
+        synchronized (this) {
+            shutdown = true;
+        }
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        final List<Runnable> notRun;
+        synchronized (this) {
+            shutdown = true;
+            notRun = new ArrayList<>(queued);
+            queued.clear();
+        }
+        notRun.addAll(delegate.shutdownNow());
+        return Collections.unmodifiableList(notRun);
+    }
+
+    @Override
+    public synchronized boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
@@ -0,0 +1,39 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import java.util.concurrent.CompletableFuture;
+
+import io.fabric8.kubernetes.client.http.BasicBuilder;
+import io.fabric8.kubernetes.client.http.HttpResponse;
+import io.fabric8.kubernetes.client.http.Interceptor;
+
+/**
+ * Reports responses showing that the API server is overloaded, i.e. throttled ({@code 429}) or failed ({@code 5xx})
+ * requests, so that the adaptive concurrency limit decreases without waiting for the client's retries to make
+ * reconciliations slow.
+ * <p>
+ * Only failed responses are seen by interceptors so successful responses never reach this interceptor.
+ */
+class AdaptiveConcurrencyInterceptor implements Interceptor {
+    static final String NAME = "quarkus-operator-sdk-adaptive-concurrency";
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int INTERNAL_SERVER_ERROR = 500;
+
+    private final Runnable overloadListener;
+
+    AdaptiveConcurrencyInterceptor(Runnable overloadListener) {
+        this.overloadListener = overloadListener;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> afterFailure(BasicBuilder builder, HttpResponse<?> response, RequestTags tags) {
+        if (isOverloaded(response.code())) {
+            overloadListener.run();
+        }
+        // the request is not modified so it shouldn't be retried because of this interceptor
+        return CompletableFuture.completedFuture(false);
+    }
+
+    static boolean isOverloaded(int code) {
+        return code == TOO_MANY_REQUESTS || code >= INTERNAL_SERVER_ERROR;
+    }
+}
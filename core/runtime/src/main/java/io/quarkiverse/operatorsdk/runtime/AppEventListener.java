@@ -25,7 +25,9 @@ public class AppEventListener {
         if (configurationService.shouldStartOperator()) {
             if (operator.getRegisteredControllersNumber() > 0) {
                 log.info("Starting operator.");
+                final var start = System.nanoTime();
                 operator.start();
+                LifecycleMetrics.record(LifecycleMetrics.Phase.STARTUP, null, start);
             } else {
                 log.warn("No Reconciler implementation was found so the Operator was not started.");
             }
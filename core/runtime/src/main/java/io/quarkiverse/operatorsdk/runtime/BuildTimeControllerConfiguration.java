@@ -22,4 +22,23 @@ public class BuildTimeControllerConfiguration {
      */
     @ConfigItem
     public Optional<List<String>> namespaces;
+
+    /**
+     * An optional strategy used to clone this controller's primary resources, overriding the operator-level one. Setting
+     * this to {@code none} lets a controller whose reconciler never mutates the resources it is handed opt out of
+     * cloning.
+     */
+    @ConfigItem
+    public Optional<ClonerStrategy> cloner;
+
+    /**
+     * Whether the controller's reconciler should be handed copy-on-write proxies of its primary resources instead of
+     * eagerly cloned resources, so that reconciliations that don't modify the primary resource never pay for cloning it.
+     * The proxy is only cloned when one of its methods that could lead to its modification, i.e. a setter or a getter
+     * returning a mutable nested object such as {@code getStatus}, is first called: only reconciliations that just read
+     * immutable values, e.g. the resource's kind or API version, avoid cloning. Only supported for public, non-final custom
+     * resources and only applied if all the controllers sharing the same primary resource type opt in.
+     */
+    @ConfigItem(defaultValue = "false")
+    public Optional<Boolean> copyOnWrite;
 }
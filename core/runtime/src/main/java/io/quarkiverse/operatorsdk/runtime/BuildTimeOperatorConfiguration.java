@@ -70,4 +70,27 @@ public class BuildTimeOperatorConfiguration {
      */
     @ConfigItem(defaultValue = "prod")
     public List<String> activateLeaderElectionForProfiles;
+
+    /**
+     * The strategy used to clone resources before they are handed to reconcilers. {@code generated} uses cloners
+     * generated at build time for the known resource types when possible and falls back to {@code binary} otherwise.
+     * Cloners are only generated for the Kubernetes resources provided by the Fabric8 client, which are buildable:
+     * custom resources, and therefore the primary resources of most controllers, are always cloned using {@code binary}.
+     * {@code none} should only be used if no reconciler ever mutates the resources it is handed.
+     */
+    @ConfigItem(defaultValue = "generated")
+    public ClonerStrategy cloner;
+
+    /**
+     * Whether the readiness health check should be reactive, i.e. run on the event loop instead of a worker thread. Both
+     * variants read a periodically refreshed snapshot of the operator health and never block.
+     */
+    @ConfigItem(defaultValue = "false")
+    public Boolean reactiveHealthCheck;
+
+    /**
+     * The dev mode-specific configuration options
+     */
+    @ConfigItem
+    public DevModeConfiguration devMode;
 }
@@ -1,5 +1,6 @@
 package io.quarkiverse.operatorsdk.runtime;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +14,7 @@ public class CRDConfiguration {
     public static final String DEFAULT_OUTPUT_DIRECTORY = "kubernetes";
     public static final String DEFAULT_VALIDATE = "true";
     public static final String DEFAULT_VERSIONS = "v1";
+    public static final String DEFAULT_GENERATION_CACHE_DIRECTORY = "operator-sdk-crd-cache";
     /**
      * Whether the operator should check that the CRD is properly deployed and that the associated
      * {@link CustomResource} implementation matches its information before registering the associated
@@ -35,6 +37,14 @@ public class CRDConfiguration {
     @ConfigItem
     public Optional<Boolean> apply;
 
+    /**
+     * How long to wait, after applying CRDs, for the cluster to establish them before starting the controllers. Defaults to
+     * 30 seconds in dev mode and to not waiting at all in test mode, where the API server is usually a mock server which
+     * never establishes CRDs. Set to {@code 0} to never wait.
+     */
+    @ConfigItem
+    public Optional<Duration> establishedTimeout;
+
     /**
      * Comma-separated list of which CRD versions should be generated.
      */
@@ -54,10 +64,24 @@ public class CRDConfiguration {
     public Boolean generateAll;
 
     /**
-     * Whether the CRDs should be generated in parallel. Please note that this feature is experimental
-     * and it may lead to unexpected results.
+     * Whether the CRDs should be generated in parallel, using as many threads as there are available processors. Each CRD
+     * is generated independently so the generated CRDs are the same regardless of this setting.
      */
-    @ConfigItem(defaultValue = "false")
+    @ConfigItem(defaultValue = "true")
     public Boolean generateInParallel;
 
+    /**
+     * Whether generated CRDs should be cached across builds so that CRDs are only generated again when the classes they are
+     * generated from change.
+     */
+    @ConfigItem(defaultValue = "true")
+    public Boolean generationCache;
+
+    /**
+     * The directory where generated CRDs are cached. Relative paths are resolved against the project's output directory,
+     * e.g. {@code target}, so the cache is removed when the project is cleaned: use an absolute path, or one pointing
+     * outside of the output directory, e.g. {@code ../.operator-sdk-crd-cache}, to keep it across clean builds.
+     */
+    @ConfigItem(defaultValue = DEFAULT_GENERATION_CACHE_DIRECTORY)
+    public String generationCacheDirectory;
 }
@@ -12,14 +12,16 @@ public class CRDGenerationInfo {
     private final boolean validateCRDs;
     private final Map<String, Map<String, CRDInfo>> crds;
     private final Set<String> generated;
+    private final long establishedTimeoutMillis;
 
     @RecordableConstructor // constructor needs to be recordable for the class to be passed around by Quarkus
     public CRDGenerationInfo(boolean applyCRDs, boolean validateCRDs, Map<String, Map<String, CRDInfo>> crds,
-            Set<String> generated) {
+            Set<String> generated, long establishedTimeoutMillis) {
         this.applyCRDs = applyCRDs;
         this.validateCRDs = validateCRDs;
         this.crds = Collections.unmodifiableMap(crds);
         this.generated = generated;
+        this.establishedTimeoutMillis = establishedTimeoutMillis;
     }
 
     // Needed by Quarkus: if this method isn't present, state is not properly set
@@ -37,6 +39,11 @@ public class CRDGenerationInfo {
         return applyCRDs;
     }
 
+    // Needed by Quarkus: if this method isn't present, state is not properly set
+    public long getEstablishedTimeoutMillis() {
+        return establishedTimeoutMillis;
+    }
+
     public boolean shouldApplyCRD(String name) {
         return generated.contains(name);
     }
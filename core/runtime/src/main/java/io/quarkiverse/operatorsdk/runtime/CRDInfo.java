@@ -11,15 +11,17 @@ public class CRDInfo {
     private final String crdSpecVersion;
     private final String filePath;
     private final Set<String> dependentClassNames;
+    private final String contentHash;
 
     @RecordableConstructor // constructor needs to be recordable for the class to be passed around by Quarkus
     public CRDInfo(String crdName, String crdSpecVersion, String filePath, Set<String> dependentClassNames,
-            Map<String, ResourceInfo> versions) {
+            Map<String, ResourceInfo> versions, String contentHash) {
         this.crdName = crdName;
         this.crdSpecVersion = crdSpecVersion;
         this.filePath = filePath;
         this.dependentClassNames = dependentClassNames;
         this.versions = versions;
+        this.contentHash = contentHash;
     }
 
     public String getCrdName() {
@@ -42,4 +44,12 @@ public class CRDInfo {
         return versions;
     }
 
+    /**
+     * @return the hash of the generated CRD file content, used to avoid re-applying unchanged CRDs, or {@code null} if
+     *         unknown
+     */
+    public String getContentHash() {
+        return contentHash;
+    }
+
 }
@@ -2,52 +2,221 @@ package io.quarkiverse.operatorsdk.runtime;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.jboss.logging.Logger;
 
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
 
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinition;
+import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinitionCondition;
 import io.fabric8.kubernetes.client.KubernetesClient;
 
 public final class CRDUtils {
 
     private static final YAMLMapper MAPPER = new YAMLMapper();
     private static final Logger LOGGER = Logger.getLogger(CRDUtils.class.getName());
+    private static final Map<String, ParsedCRD> PARSED_CRDS = new ConcurrentHashMap<>();
+    private static final int MAX_CONCURRENT_CRD_APPLICATIONS = 8;
+    private static final String ESTABLISHED = "Established";
+    /**
+     * The annotation recording, on the cluster, the hash of the generated CRD content that was last applied
+     */
+    public static final String CONTENT_HASH_ANNOTATION = "operator-sdk.quarkiverse.io/crd-content-hash";
+    /**
+     * The field manager used when applying CRDs
+     */
+    public static final String FIELD_MANAGER = "quarkus-operator-sdk";
+    /**
+     * How long to wait for applied CRDs to be established when not configured, outside of test mode
+     */
+    public static final Duration DEFAULT_ESTABLISHED_TIMEOUT = Duration.ofSeconds(30);
 
     private CRDUtils() {
 
     }
 
-    public static void applyCRD(KubernetesClient client, CRDGenerationInfo crdInfo, String crdName) {
+    /**
+     * Applies the specified CRDs concurrently, waiting for them to be established by the cluster before returning so that
+     * controllers watching the associated custom resources can be started right away. How long to wait is specified by
+     * {@link CRDGenerationInfo#getEstablishedTimeoutMillis()}, {@code 0} meaning not to wait at all.
+     *
+     * @param client the {@link KubernetesClient} used to apply the CRDs
+     * @param crdInfo the {@link CRDGenerationInfo} providing information about the CRDs
+     * @param crdNames the names of the CRDs to apply
+     */
+    public static void applyCRDs(KubernetesClient client, CRDGenerationInfo crdInfo, Collection<String> crdNames) {
+        if (crdNames.isEmpty()) {
+            return;
+        }
+
+        final var executor = Executors.newFixedThreadPool(Math.min(crdNames.size(), MAX_CONCURRENT_CRD_APPLICATIONS));
+        try {
+            final List<CompletableFuture<String>> applications = crdNames.stream()
+                    .map(crdName -> CompletableFuture.supplyAsync(
+                            () -> applyCRD(client, crdInfo, crdName) ? crdName : null, executor))
+                    .collect(Collectors.toList());
+            final var applied = applications.stream()
+                    .map(CompletableFuture::join)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+
+            final var timeout = Duration.ofMillis(crdInfo.getEstablishedTimeoutMillis());
+            if (timeout.isZero() || timeout.isNegative()) {
+                return;
+            }
+            // CRDs are established concurrently by the server, so waiting for them in turn doesn't add up
+            final var deadline = System.nanoTime() + timeout.toNanos();
+            applied.forEach(crdName -> waitUntilEstablished(client, crdName, deadline, timeout));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Applies the versions of the specified CRD
+     *
+     * @param client the {@link KubernetesClient} used to apply the CRD
+     * @param crdInfo the {@link CRDGenerationInfo} providing information about the CRD
+     * @param crdName the name of the CRD to apply
+     * @return {@code true} if the CRD was applied, {@code false} otherwise
+     */
+    public static boolean applyCRD(KubernetesClient client, CRDGenerationInfo crdInfo, String crdName) {
+        final var start = System.nanoTime();
         try {
             crdInfo.getCRDInfosFor(crdName).forEach((crdVersion, info) -> {
-                final var filePath = info.getFilePath();
-                final var crdFile = new File(filePath);
-                try {
-                    final var crd = MAPPER.readValue(crdFile, getCRDClassFor(crdVersion));
-                    apply(client, crdVersion, crd);
-                    LOGGER.infov("Applied {0} CRD named ''{1}'' from {2}", crdVersion, crdName, filePath);
-                } catch (IOException ex) {
-                    throw new IllegalArgumentException("Couldn't read CRD file at " + filePath
-                            + " as a " + crdVersion + " CRD for " + crdName, ex);
+                final var contentHash = info.getContentHash();
+                if (contentHash != null && contentHash.equals(deployedContentHash(client, crdVersion, crdName))) {
+                    LOGGER.debugv("Skipped applying unchanged {0} CRD named ''{1}''", crdVersion, crdName);
+                    return;
                 }
+
+                apply(client, crdVersion, loadCRD(crdName, crdVersion, info));
+                LOGGER.infov("Applied {0} CRD named ''{1}'' from {2}", crdVersion, crdName, info.getFilePath());
             });
+            return true;
         } catch (Exception exception) {
             LOGGER.debugv(exception, "Couldn't apply ''{0}'' CRD", crdName);
+            return false;
+        } finally {
+            LifecycleMetrics.record(LifecycleMetrics.Phase.CRD_APPLICATION, crdName, start);
+        }
+    }
+
+    /**
+     * Retrieves the CRD associated with the specified information, only parsing the CRD file if it changed since it was
+     * last parsed. In dev mode, this avoids parsing all CRD files again on each live reload. The cached CRD is never handed
+     * out: callers get their own copy, which they are free to modify.
+     */
+    static HasMetadata loadCRD(String crdName, String crdVersion, CRDInfo info) {
+        final var filePath = info.getFilePath();
+        final var crdFile = new File(filePath);
+        final var stamp = info.getContentHash() != null ? info.getContentHash()
+                : crdFile.lastModified() + ":" + crdFile.length();
+        final var crdClass = getCRDClassFor(crdVersion);
+        final var cached = PARSED_CRDS.get(filePath);
+        if (cached != null && cached.stamp.equals(stamp)) {
+            return copy(cached.crd, crdClass);
+        }
+
+        try {
+            final var crd = (HasMetadata) MAPPER.readValue(crdFile, crdClass);
+            if (info.getContentHash() != null) {
+                crd.getMetadata().getAnnotations().put(CONTENT_HASH_ANNOTATION, info.getContentHash());
+            }
+            PARSED_CRDS.put(filePath, new ParsedCRD(stamp, crd));
+            return copy(crd, crdClass);
+        } catch (IOException ex) {
+            throw new IllegalArgumentException("Couldn't read CRD file at " + filePath
+                    + " as a " + crdVersion + " CRD for " + crdName, ex);
+        }
+    }
+
+    // copying through a JSON tree is much cheaper than parsing the YAML file again
+    private static HasMetadata copy(HasMetadata crd, Class<?> crdClass) {
+        try {
+            return (HasMetadata) MAPPER.treeToValue(MAPPER.valueToTree(crd), crdClass);
+        } catch (IOException e) {
+            throw new IllegalStateException("Couldn't copy CRD " + crd.getMetadata().getName(), e);
+        }
+    }
+
+    private static class ParsedCRD {
+        private final String stamp;
+        private final HasMetadata crd;
+
+        private ParsedCRD(String stamp, HasMetadata crd) {
+            this.stamp = stamp;
+            this.crd = crd;
+        }
+    }
+
+    private static String deployedContentHash(KubernetesClient client, String v, String crdName) {
+        final HasMetadata deployed;
+        switch (v) {
+            case "v1":
+                deployed = client.apiextensions().v1().customResourceDefinitions().withName(crdName).get();
+                break;
+            case "v1beta1":
+                deployed = client.apiextensions().v1beta1().customResourceDefinitions().withName(crdName).get();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown CRD version: " + v);
+        }
+        return deployed == null ? null : deployed.getMetadata().getAnnotations().get(CONTENT_HASH_ANNOTATION);
+    }
+
+    private static void waitUntilEstablished(KubernetesClient client, String crdName, long deadline, Duration timeout) {
+        try {
+            client.apiextensions().v1().customResourceDefinitions().withName(crdName)
+                    .waitUntilCondition(CRDUtils::isEstablished, Math.max(deadline - System.nanoTime(), 0),
+                            TimeUnit.NANOSECONDS);
+        } catch (Exception exception) {
+            LOGGER.warnv("''{0}'' CRD wasn''t established after {1}ms: {2}", crdName, timeout.toMillis(),
+                    exception.getMessage());
+        }
+    }
+
+    private static boolean isEstablished(CustomResourceDefinition crd) {
+        if (crd == null || crd.getStatus() == null || crd.getStatus().getConditions() == null) {
+            return false;
         }
+        return crd.getStatus().getConditions().stream()
+                .filter(condition -> ESTABLISHED.equals(condition.getType()))
+                .map(CustomResourceDefinitionCondition::getStatus)
+                .anyMatch("True"::equals);
     }
 
+    /**
+     * Applies the CRD using server-side apply, which doesn't require retrieving the CRD first and lets the server merge the
+     * changes, thus avoiding conflicts when several operator instances start at the same time. Conflicts with other field
+     * managers are forced since the generated CRD is expected to be the reference.
+     */
     private static void apply(KubernetesClient client, String v, Object crd) {
         switch (v) {
             case "v1":
                 client.apiextensions().v1().customResourceDefinitions()
-                        .resource((CustomResourceDefinition) crd).createOrReplace();
+                        .resource((CustomResourceDefinition) crd)
+                        .fieldManager(FIELD_MANAGER)
+                        .forceConflicts()
+                        .serverSideApply();
                 break;
             case "v1beta1":
                 client.apiextensions().v1beta1().customResourceDefinitions()
                         .resource((io.fabric8.kubernetes.api.model.apiextensions.v1beta1.CustomResourceDefinition) crd)
-                        .createOrReplace();
+                        .fieldManager(FIELD_MANAGER)
+                        .forceConflicts()
+                        .serverSideApply();
                 break;
             default:
                 throw new IllegalArgumentException("Unknown CRD version: " + v);
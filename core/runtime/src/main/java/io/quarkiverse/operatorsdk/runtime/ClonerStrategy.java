@@ -0,0 +1,28 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+/**
+ * The strategies that can be used to clone resources before they are handed to reconcilers.
+ */
+public enum ClonerStrategy {
+    /**
+     * Clone resources by serializing them to a JSON String and deserializing them back.
+     */
+    JSON,
+    /**
+     * Clone resources by serializing them to an in-memory buffer of Jackson tokens and deserializing them back, thus
+     * avoiding the cost of textual encoding and parsing.
+     */
+    BINARY,
+    /**
+     * Clone resources using build-time generated cloners where possible, falling back to {@link #BINARY} for
+     * resource types for which no cloner could be generated. Cloners are only generated for the Fabric8 model classes,
+     * using their builders: custom resources are always cloned using {@link #BINARY} since their spec and status
+     * classes usually aren't buildable.
+     */
+    GENERATED,
+    /**
+     * Do not clone resources: only use this if the reconcilers never mutate the resources they are handed since these
+     * would then be directly the instances held in the informers' caches.
+     */
+    NONE
+}
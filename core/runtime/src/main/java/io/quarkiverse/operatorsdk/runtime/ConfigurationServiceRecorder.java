@@ -1,20 +1,31 @@
 package io.quarkiverse.operatorsdk.runtime;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.jboss.logging.Logger;
 
 import com.fasterxml.jackson.databind.SerializationFeature;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientBuilder;
+import io.fabric8.kubernetes.client.http.Interceptor;
+import io.fabric8.kubernetes.client.utils.HttpClientUtils;
 import io.fabric8.kubernetes.client.utils.Serialization;
 import io.javaoperatorsdk.operator.api.config.ConfigurationService;
 import io.javaoperatorsdk.operator.api.config.InformerStoppedHandler;
 import io.javaoperatorsdk.operator.api.config.LeaderElectionConfiguration;
 import io.javaoperatorsdk.operator.api.monitoring.Metrics;
+import io.javaoperatorsdk.operator.processing.event.rate.RateLimiter;
+import io.quarkiverse.operatorsdk.runtime.devmode.OperatorSDKHotReplacementSetup;
 import io.quarkus.arc.Arc;
 import io.quarkus.jackson.ObjectMapperCustomizer;
 import io.quarkus.runtime.LaunchMode;
@@ -25,11 +36,14 @@ import io.quarkus.runtime.configuration.ProfileManager;
 public class ConfigurationServiceRecorder {
 
     static final Logger log = Logger.getLogger(ConfigurationServiceRecorder.class.getName());
+    private static final Duration DEFAULT_RATE_LIMITER_REFRESH_PERIOD = Duration.ofSeconds(10);
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
     public Supplier<QuarkusConfigurationService> configurationServiceSupplier(Version version,
             Map<String, QuarkusControllerConfiguration> configurations,
-            CRDGenerationInfo crdInfo, RunTimeOperatorConfiguration runTimeConfiguration,
+            CRDGenerationInfo crdInfo, Map<String, String> generatedCloners,
+            Map<String, String> copyOnWriteFactories,
+            RunTimeOperatorConfiguration runTimeConfiguration,
             BuildTimeOperatorConfiguration buildTimeConfiguration, LaunchMode launchMode) {
         final var maxThreads = runTimeConfiguration.concurrentReconciliationThreads
                 .orElse(ConfigurationService.DEFAULT_RECONCILIATION_THREADS_NUMBER);
@@ -39,6 +53,8 @@ public class ConfigurationServiceRecorder {
                 .orElse(ConfigurationService.DEFAULT_WORKFLOW_EXECUTOR_THREAD_NUMBER);
         final var cacheSyncTimeout = runTimeConfiguration.cacheSyncTimeout;
 
+        final var controllerReconciliationThreads = new HashMap<String, Integer>();
+        final var controllerWorkflowThreads = new HashMap<String, Integer>();
         configurations.forEach((name, c) -> {
             final var extConfig = runTimeConfiguration.controllers.get(name);
 
@@ -48,6 +64,10 @@ public class ConfigurationServiceRecorder {
                 extConfig.selector.ifPresent(c::setLabelSelector);
                 extConfig.namespaces.map(HashSet::new).ifPresent(c::setNamespaces);
                 c.setRetryConfiguration(RetryConfigurationResolver.resolve(extConfig.retry));
+                rateLimiterFrom(extConfig.rateLimiter).ifPresent(c::setRateLimiter);
+                extConfig.concurrentReconciliationThreads
+                        .ifPresent(threads -> controllerReconciliationThreads.put(name, threads));
+                extConfig.concurrentWorkflowThreads.ifPresent(threads -> controllerWorkflowThreads.put(name, threads));
             }
 
             // set retry to default if it hasn't been set already
@@ -65,7 +85,18 @@ public class ConfigurationServiceRecorder {
             }
         });
 
+        // resolve which cloning strategy to use for each controller's primary resource
+        final var clonerStrategies = new HashMap<String, ClonerStrategy>();
+        configurations.forEach((name, c) -> {
+            final var strategy = Optional.ofNullable(buildTimeConfiguration.controllers.get(name))
+                    .flatMap(extConfig -> extConfig.cloner)
+                    .orElse(buildTimeConfiguration.cloner);
+            clonerStrategies.merge(c.getResourceClass().getName(), strategy,
+                    ConfigurationServiceRecorder::safestClonerStrategy);
+        });
+
         return () -> {
+            final var start = System.nanoTime();
             // customize fabric8 mapper
             final var mapper = Serialization.jsonMapper();
             mapper.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
@@ -85,25 +116,104 @@ public class ConfigurationServiceRecorder {
                 log.info("Leader election deactivated for " + profile + " profile");
             }
 
-            return new QuarkusConfigurationService(
+            final var instrumentations = container.select(OperatorInstrumentation.class).stream()
+                    .collect(Collectors.toCollection(ArrayList::new));
+            final var requestBudget = runTimeConfiguration.requestBudget;
+            if (requestBudget.enabled) {
+                instrumentations.add(new RequestBudgetInterceptor(new RequestBudget(requestBudget)));
+            }
+            final var interceptors = new LinkedHashMap<String, Interceptor>();
+            // the configuration service, which owns the adaptive concurrency limit, is created after the client
+            final var createdConfigurationService = new AtomicReference<QuarkusConfigurationService>();
+            final var adaptiveConcurrency = runTimeConfiguration.adaptiveConcurrency.enabled
+                    ? runTimeConfiguration.adaptiveConcurrency
+                    : null;
+            if (adaptiveConcurrency != null) {
+                interceptors.put(AdaptiveConcurrencyInterceptor.NAME, new AdaptiveConcurrencyInterceptor(() -> {
+                    final var created = createdConfigurationService.get();
+                    if (created != null) {
+                        created.overloadDetected();
+                    }
+                }));
+            }
+            instrumentations.forEach(instrumentation -> instrumentation.clientInterceptor()
+                    .ifPresent(interceptor -> interceptors.put(instrumentation.getClass().getName(), interceptor)));
+            var client = container.instance(KubernetesClient.class).get();
+            // only close the injected client if configured to, a client created here is only used by the operator and
+            // doesn't share anything with the injected one so it is always closed when the operator stops
+            var closeClientOnStop = buildTimeConfiguration.closeClientOnStop;
+            if (!interceptors.isEmpty()) {
+                client = withInterceptors(client, interceptors);
+                closeClientOnStop = true;
+            }
+
+            final var configurationService = new QuarkusConfigurationService(
                     version,
                     configurations.values(),
-                    container.instance(KubernetesClient.class).get(),
+                    client,
                     crdInfo,
                     maxThreads,
                     workflowThreads,
                     timeout,
                     cacheSyncTimeout,
+                    runTimeConfiguration.executorType,
+                    adaptiveConcurrency,
+                    controllerReconciliationThreads,
+                    controllerWorkflowThreads,
+                    instrumentations,
                     container.instance(Metrics.class).get(),
                     shouldStartOperator(buildTimeConfiguration.startOperator, launchMode),
+                    QuarkusCloner.from(buildTimeConfiguration.cloner, clonerStrategies, generatedCloners,
+                            copyOnWriteFactories, mapper),
                     mapper,
                     leaderElectionConfiguration,
                     container.instance(InformerStoppedHandler.class).orElse(null),
-                    buildTimeConfiguration.closeClientOnStop,
+                    closeClientOnStop,
                     buildTimeConfiguration.stopOnInformerErrorDuringStartup);
+            createdConfigurationService.set(configurationService);
+            LifecycleMetrics.record(LifecycleMetrics.Phase.CONFIGURATION_RESOLUTION, null, start);
+            return configurationService;
         };
     }
 
+    public void configureDevMode(DevModeConfiguration devModeConfiguration) {
+        OperatorSDKHotReplacementSetup.configure(devModeConfiguration);
+    }
+
+    /**
+     * Creates a client configured like the specified one but whose requests go through the specified interceptors. The new
+     * client uses its own HTTP client, created by the same HTTP client factory the specified client's was, so that it
+     * doesn't share any resource with the specified client and can be closed independently of it.
+     *
+     * @param client the {@link KubernetesClient} to take the configuration from
+     * @param interceptors the {@link Interceptor}s to add, associated with their name
+     * @return a new {@link KubernetesClient}
+     */
+    private static KubernetesClient withInterceptors(KubernetesClient client, Map<String, Interceptor> interceptors) {
+        return new KubernetesClientBuilder()
+                .withConfig(client.getConfiguration())
+                .withHttpClientFactory(HttpClientUtils.getHttpClientFactory())
+                .withHttpClientBuilderConsumer(builder -> interceptors.forEach(builder::addOrReplaceInterceptor))
+                .build();
+    }
+
+    @SuppressWarnings("rawtypes")
+    static Optional<RateLimiter> rateLimiterFrom(ExternalRateLimiterConfiguration rateLimiter) {
+        if (rateLimiter == null || rateLimiter.limitForPeriod.isEmpty()) {
+            return Optional.empty();
+        }
+        final var refreshPeriod = rateLimiter.refreshPeriod.orElse(DEFAULT_RATE_LIMITER_REFRESH_PERIOD);
+        final int limitForPeriod = rateLimiter.limitForPeriod.get();
+        return Optional.of(rateLimiter.burst
+                .<RateLimiter> map(burst -> new TokenBucketRateLimiter(refreshPeriod, limitForPeriod, burst))
+                .orElseGet(() -> new QuarkusControllerConfiguration.DefaultRateLimiter(refreshPeriod, limitForPeriod)));
+    }
+
+    // if several controllers share the same primary resource type, only skip cloning if all of them agree to it
+    static ClonerStrategy safestClonerStrategy(ClonerStrategy existing, ClonerStrategy requested) {
+        return existing == ClonerStrategy.NONE ? requested : existing;
+    }
+
     static boolean shouldStartOperator(Optional<Boolean> fromConfiguration, LaunchMode launchMode) {
         if (fromConfiguration == null || fromConfiguration.isEmpty()) {
             return LaunchMode.TEST != launchMode;
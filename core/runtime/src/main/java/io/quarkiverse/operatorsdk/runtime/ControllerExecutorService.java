@@ -0,0 +1,155 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * An {@link ExecutorService} dispatching tasks to executors dedicated to the controller they are associated with, using a
+ * shared executor for controllers without a dedicated one. JOSDK uses a single executor for all controllers so this is
+ * what allows a slow controller not to starve the others.
+ * <p>
+ * Reconciliation tasks are associated with their controller based on their description, which JOSDK formats as
+ * {@code <controller name> -> <execution scope>}. Tasks submitted while a controller task is running, e.g. workflow
+ * tasks, are associated with the controller of the task that submitted them.
+ * <p>
+ * Dedicated executors use the configured {@link ExecutorType}: with virtual threads, they are not pooled and the number of
+ * threads configured for the controller is ignored. Statistics are only available for pooled, i.e. platform, executors.
+ */
+class ControllerExecutorService extends AbstractExecutorService {
+    private static final String CONTROLLER_NAME_SEPARATOR = " -> ";
+    private static final ThreadLocal<String> currentController = new ThreadLocal<>();
+
+    private final ExecutorService shared;
+    private final Map<String, ExecutorService> dedicated;
+    private final Function<Runnable, String> controllerResolver;
+
+    private ControllerExecutorService(ExecutorService shared, Map<String, ExecutorService> dedicated,
+            Function<Runnable, String> controllerResolver) {
+        this.shared = shared;
+        this.dedicated = dedicated;
+        this.controllerResolver = controllerResolver;
+    }
+
+    /**
+     * Creates an {@link ExecutorService} for reconciliation tasks
+     *
+     * @param executorType the {@link ExecutorType} of the dedicated executors
+     * @param shared the executor used by controllers without a dedicated executor
+     * @param controllerThreads a map associating controller names with the size of their dedicated thread pool
+     * @return an {@link ExecutorService} dispatching reconciliation tasks to the appropriate executor
+     */
+    static ControllerExecutorService forReconciliations(ExecutorType executorType, ExecutorService shared,
+            Map<String, Integer> controllerThreads) {
+        return new ControllerExecutorService(shared, executors(executorType, controllerThreads),
+                ControllerExecutorService::controllerNameFromDescription);
+    }
+
+    /**
+     * Creates an {@link ExecutorService} for tasks submitted by reconciliation tasks, such as workflow tasks
+     *
+     * @param executorType the {@link ExecutorType} of the dedicated executors
+     * @param shared the executor used by controllers without a dedicated executor
+     * @param controllerThreads a map associating controller names with the size of their dedicated thread pool
+     * @return an {@link ExecutorService} dispatching tasks to the appropriate executor
+     */
+    static ControllerExecutorService forNestedTasks(ExecutorType executorType, ExecutorService shared,
+            Map<String, Integer> controllerThreads) {
+        return new ControllerExecutorService(shared, executors(executorType, controllerThreads),
+                task -> currentController.get());
+    }
+
+    private static Map<String, ExecutorService> executors(ExecutorType executorType,
+            Map<String, Integer> controllerThreads) {
+        return controllerThreads.entrySet().stream().collect(Collectors.toUnmodifiableMap(Map.Entry::getKey,
+                e -> executorType.newExecutorService(e.getValue())));
+    }
+
+    private static String controllerNameFromDescription(Runnable task) {
+        return controllerNameFromDescription(task.toString());
+    }
+
+    /**
+     * @param description the description of a reconciliation task
+     * @return the name of the controller the reconciliation task is associated with or {@code null} if the description
+     *         isn't the one of a reconciliation task
+     */
+    static String controllerNameFromDescription(String description) {
+        final var separator = description.indexOf(CONTROLLER_NAME_SEPARATOR);
+        return separator > 0 ? description.substring(0, separator) : null;
+    }
+
+    Map<String, ExecutorStatistics> statistics() {
+        return dedicated.entrySet().stream()
+                .filter(e -> e.getValue() instanceof ThreadPoolExecutor)
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey,
+                        e -> new ExecutorStatistics((ThreadPoolExecutor) e.getValue())));
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        final var controllerName = controllerResolver.apply(task);
+        final ExecutorService executor;
+        if (controllerName == null) {
+            executor = shared;
+        } else {
+            final var controllerExecutor = dedicated.get(controllerName);
+            executor = controllerExecutor != null ? controllerExecutor : shared;
+        }
+
+        executor.execute(() -> {
+            final var previous = currentController.get();
+            currentController.set(controllerName);
+            try {
+                task.run();
+            } finally {
+                currentController.set(previous);
+            }
+        });
+    }
+
+    private Stream<ExecutorService> executors() {
+        return Stream.concat(Stream.of(shared), dedicated.values().stream());
+    }
+
+    @Override
+    public void shutdown() {
+        executors().forEach(ExecutorService::shutdown);
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        final var notRun = new ArrayList<Runnable>();
+        executors().forEach(executor -> notRun.addAll(executor.shutdownNow()));
+        return Collections.unmodifiableList(notRun);
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return executors().allMatch(ExecutorService::isShutdown);
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return executors().allMatch(ExecutorService::isTerminated);
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        final var deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (ExecutorService executor : executors().collect(Collectors.toList())) {
+            if (!executor.awaitTermination(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
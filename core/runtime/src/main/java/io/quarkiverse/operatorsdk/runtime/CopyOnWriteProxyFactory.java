@@ -0,0 +1,27 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.javaoperatorsdk.operator.api.config.Cloner;
+
+/**
+ * Creates copy-on-write proxies of custom resources. Implementations are generated at build time for the primary resources
+ * of controllers configured to use copy-on-write resources.
+ * <p>
+ * A proxy delegates to the cached original resource until a method that could lead to its mutation is called on it, at
+ * which point the original is cloned and all subsequent calls are delegated to the clone. Only {@code equals},
+ * {@code hashCode}, {@code toString} and getters returning immutable values (primitives, their wrappers, strings and enums),
+ * e.g. {@code getKind} or {@code isMarkedForDeletion}, are delegated to the original: getters returning nested objects,
+ * e.g. {@code getSpec}, {@code getStatus} or {@code getMetadata}, clone it since the returned objects could be modified in
+ * place.
+ */
+public interface CopyOnWriteProxyFactory {
+
+    /**
+     * Creates a copy-on-write proxy for the specified resource
+     *
+     * @param original the resource to proxy
+     * @param cloner the {@link Cloner} to use to copy the original resource when needed
+     * @return a copy-on-write proxy of the specified resource
+     */
+    HasMetadata proxy(HasMetadata original, Cloner cloner);
+}
@@ -0,0 +1,34 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class DevModeConfiguration {
+
+    public static final String DEFAULT_DEBOUNCE = "500MS";
+    public static final String DEFAULT_SCAN_INTERVAL = "10S";
+
+    /**
+     * Whether source and resource directories should be watched for changes in dev mode, so that changes to reconcilers
+     * and custom resources are picked up as soon as they happen instead of waiting for the next periodic scan.
+     */
+    @ConfigItem(defaultValue = "true")
+    public Boolean watchChanges;
+
+    /**
+     * How long to wait, after a change is detected, for other changes before triggering a scan, so that saving several
+     * files only triggers one scan.
+     */
+    @ConfigItem(defaultValue = DEFAULT_DEBOUNCE)
+    public Duration debounce;
+
+    /**
+     * How often the application should be scanned for changes in dev mode, regardless of detected changes. Setting it to
+     * {@code 0} disables periodic scanning.
+     */
+    @ConfigItem(defaultValue = DEFAULT_SCAN_INTERVAL)
+    public Duration scanInterval;
+}
@@ -0,0 +1,78 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import java.util.Map;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Singleton;
+import jakarta.interceptor.Interceptor;
+
+import io.javaoperatorsdk.operator.Operator;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.quarkus.runtime.StartupEvent;
+
+/**
+ * Exposes the activity of the reconciliation and workflow executors dedicated to controllers configured with their own
+ * {@code concurrent-reconciliation-threads} or {@code concurrent-workflow-threads}. These executors are only created along
+ * with the operator, so the gauges are registered at startup instead of when the registry is bound.
+ */
+@Singleton
+public class ExecutorMetricsBinder implements MeterBinder {
+    public static final String QUEUE_DEPTH_METRIC_NAME = "operator.sdk.executor.queue.depth";
+    public static final String ACTIVE_THREADS_METRIC_NAME = "operator.sdk.executor.active.threads";
+    public static final String MAX_THREADS_METRIC_NAME = "operator.sdk.executor.max.threads";
+    public static final String RECONCILIATION_EXECUTOR = "reconciliation";
+    public static final String WORKFLOW_EXECUTOR = "workflow";
+
+    private final Instance<Operator> operator;
+    private final QuarkusConfigurationService configurationService;
+    private volatile MeterRegistry registry;
+
+    public ExecutorMetricsBinder(Instance<Operator> operator, QuarkusConfigurationService configurationService) {
+        // the operator is looked up lazily so that binding the registry doesn't create it before its metrics are set up
+        this.operator = operator;
+        this.configurationService = configurationService;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    void onStartup(@Observes @Priority(Interceptor.Priority.LIBRARY_AFTER + 124) StartupEvent event) {
+        final var meterRegistry = registry;
+        if (meterRegistry == null) {
+            return;
+        }
+        // make sure the operator, and therefore its executors, exist
+        operator.get();
+        bindTo(meterRegistry, RECONCILIATION_EXECUTOR, configurationService.getReconciliationExecutorStatistics());
+        bindTo(meterRegistry, WORKFLOW_EXECUTOR, configurationService.getWorkflowExecutorStatistics());
+    }
+
+    static void bindTo(MeterRegistry registry, String executor, Map<String, ExecutorStatistics> statistics) {
+        statistics.forEach((controllerName, stats) -> {
+            final var tags = Tags.of("controller", controllerName, "executor", executor);
+            Gauge.builder(QUEUE_DEPTH_METRIC_NAME, stats, ExecutorStatistics::getQueueDepth)
+                    .tags(tags)
+                    .baseUnit(BaseUnits.TASKS)
+                    .description("Number of tasks waiting for a thread of the controller's dedicated executor")
+                    .register(registry);
+            Gauge.builder(ACTIVE_THREADS_METRIC_NAME, stats, ExecutorStatistics::getActiveThreads)
+                    .tags(tags)
+                    .baseUnit(BaseUnits.THREADS)
+                    .description("Approximate number of threads of the controller's dedicated executor running tasks")
+                    .register(registry);
+            Gauge.builder(MAX_THREADS_METRIC_NAME, stats, ExecutorStatistics::getMaxThreads)
+                    .tags(tags)
+                    .baseUnit(BaseUnits.THREADS)
+                    .description("Size of the controller's dedicated executor")
+                    .register(registry);
+        });
+    }
+}
@@ -0,0 +1,35 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * A live view over the activity of an executor dedicated to a controller.
+ */
+public class ExecutorStatistics {
+    private final ThreadPoolExecutor executor;
+
+    ExecutorStatistics(ThreadPoolExecutor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * @return the number of tasks waiting for a thread to become available
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * @return the approximate number of threads currently executing tasks
+     */
+    public int getActiveThreads() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * @return the maximum number of threads this executor can use
+     */
+    public int getMaxThreads() {
+        return executor.getMaximumPoolSize();
+    }
+}
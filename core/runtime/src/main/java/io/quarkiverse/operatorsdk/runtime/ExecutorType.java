@@ -0,0 +1,71 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The kind of threads used to run reconciliations and workflows.
+ */
+public enum ExecutorType {
+    /**
+     * Use fixed-size pools of platform threads, sized according to the configured number of concurrent threads.
+     */
+    PLATFORM,
+    /**
+     * Use a new virtual thread per reconciliation or workflow task. This is better suited to reconcilers and dependent
+     * resources that mostly block on I/O. Requires a JVM supporting virtual threads (Java 21+): creating an executor fails
+     * otherwise.
+     */
+    VIRTUAL;
+
+    /**
+     * The name of the {@link Executors} method creating virtual thread executors
+     */
+    public static final String NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR_METHOD = "newVirtualThreadPerTaskExecutor";
+    private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = virtualThreadPerTaskExecutorFactory();
+
+    // we still target Java 11 so we need to look the virtual thread executor factory method up reflectively
+    private static Method virtualThreadPerTaskExecutorFactory() {
+        try {
+            return Executors.class.getMethod(NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR_METHOD);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    static boolean virtualThreadsAvailable() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Creates a new {@link ExecutorService} using this type of threads
+     *
+     * @param threads the number of threads to use for platform threads pools, ignored for virtual threads since these are
+     *        not pooled
+     * @return a new {@link ExecutorService}
+     * @throws IllegalStateException if virtual threads are requested but are not supported by the running JVM
+     */
+    ExecutorService newExecutorService(int threads) {
+        return newExecutorService(threads, NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR);
+    }
+
+    // visible for testing
+    ExecutorService newExecutorService(int threads, Method virtualThreadPerTaskExecutorFactory) {
+        if (this == PLATFORM) {
+            return Executors.newFixedThreadPool(threads);
+        }
+
+        if (virtualThreadPerTaskExecutorFactory == null) {
+            throw new IllegalStateException("Virtual threads are not supported by Java "
+                    + System.getProperty("java.specification.version")
+                    + ", either run on Java 21+ or set 'quarkus.operator-sdk.executor-type' to 'platform'");
+        }
+        try {
+            return (ExecutorService) virtualThreadPerTaskExecutorFactory.invoke(null);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Couldn't create virtual thread executor", e);
+        }
+    }
+}
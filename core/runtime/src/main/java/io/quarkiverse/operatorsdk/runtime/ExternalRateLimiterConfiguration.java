@@ -0,0 +1,33 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class ExternalRateLimiterConfiguration {
+
+    /**
+     * The period after which the reconciliation count for a resource is reset, defaults to 10 seconds. Only taken into
+     * account if {@code limit-for-period} is set.
+     */
+    @ConfigItem
+    public Optional<Duration> refreshPeriod;
+
+    /**
+     * The maximum number of reconciliations allowed for a given resource during each refresh period. Setting this
+     * property overrides the rate limiter configured using annotations.
+     */
+    @ConfigItem
+    public Optional<Integer> limitForPeriod;
+
+    /**
+     * If set, use a token bucket rate limiter allowing bursts of up to this many reconciliations for a given resource,
+     * tokens being replenished at a rate of {@code limit-for-period} per {@code refresh-period}, instead of the default
+     * linear rate limiter.
+     */
+    @ConfigItem
+    public Optional<Integer> burst;
+}
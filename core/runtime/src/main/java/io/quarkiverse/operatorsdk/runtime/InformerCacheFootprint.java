@@ -0,0 +1,117 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Estimates how much heap an informer cache holds. The estimate is the serialized size of a sample of the cached objects,
+ * extrapolated to the whole cache: it's not the exact retained size but tracks it closely enough to tell which cache grows.
+ * The sample is drawn uniformly from the whole cache so that the estimate isn't skewed by the cache's iteration order.
+ * Since serializing objects isn't free, the estimate is only recomputed once it is older than the configured interval.
+ */
+class InformerCacheFootprint {
+    static final int SAMPLE_SIZE = 32;
+
+    private final Supplier<Stream<?>> cachedObjects;
+    private final ObjectMapper mapper;
+    private final long refreshIntervalNanos;
+    private final LongSupplier nanoTime;
+    private volatile Estimate estimate;
+
+    InformerCacheFootprint(Supplier<Stream<?>> cachedObjects, ObjectMapper mapper, long refreshIntervalNanos) {
+        this(cachedObjects, mapper, refreshIntervalNanos, System::nanoTime);
+    }
+
+    InformerCacheFootprint(Supplier<Stream<?>> cachedObjects, ObjectMapper mapper, long refreshIntervalNanos,
+            LongSupplier nanoTime) {
+        this.cachedObjects = cachedObjects;
+        this.mapper = mapper;
+        this.refreshIntervalNanos = refreshIntervalNanos;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * @return the number of objects currently held by the cache
+     */
+    long count() {
+        return cachedObjects.get().count();
+    }
+
+    /**
+     * @return the estimated number of bytes held by the cache
+     */
+    long estimatedBytes() {
+        final var now = nanoTime.getAsLong();
+        var current = estimate;
+        if (current == null || now - current.computedAt >= refreshIntervalNanos) {
+            current = new Estimate(now, estimate());
+            estimate = current;
+        }
+        return current.bytes;
+    }
+
+    private long estimate() {
+        // reservoir sampling: each cached object ends up in the sample with the same probability
+        final var sample = new Object[SAMPLE_SIZE];
+        final long[] total = new long[1];
+        final var random = ThreadLocalRandom.current();
+        cachedObjects.get().forEach(object -> {
+            final var seen = total[0]++;
+            if (seen < SAMPLE_SIZE) {
+                sample[(int) seen] = object;
+            } else {
+                final var index = random.nextLong(seen + 1);
+                if (index < SAMPLE_SIZE) {
+                    sample[(int) index] = object;
+                }
+            }
+        });
+
+        final var counter = new CountingOutputStream();
+        long sampled = 0;
+        for (int i = 0; i < Math.min(total[0], SAMPLE_SIZE); i++) {
+            try {
+                mapper.writeValue(counter, sample[i]);
+                sampled++;
+            } catch (IOException e) {
+                // ignore objects which cannot be serialized, they are not accounted for in the average
+            }
+        }
+        return sampled == 0 ? 0 : counter.count / sampled * total[0];
+    }
+
+    private static class Estimate {
+        private final long computedAt;
+        private final long bytes;
+
+        private Estimate(long computedAt, long bytes) {
+            this.computedAt = computedAt;
+            this.bytes = bytes;
+        }
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+
+        @Override
+        public void close() {
+            // keep counting across objects
+        }
+    }
+}
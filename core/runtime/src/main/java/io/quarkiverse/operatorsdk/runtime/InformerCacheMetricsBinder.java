@@ -0,0 +1,109 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Singleton;
+import jakarta.interceptor.Interceptor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.javaoperatorsdk.operator.Operator;
+import io.javaoperatorsdk.operator.processing.Controller;
+import io.javaoperatorsdk.operator.processing.event.EventSourceMetadata;
+import io.javaoperatorsdk.operator.processing.event.source.Cache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.quarkus.runtime.StartupEvent;
+
+/**
+ * Exposes, for each controller and each of its event sources backed by an informer cache, how many objects the cache holds
+ * and an estimate of the heap they use. Controllers are only known once the operator is created, so the gauges are
+ * registered at startup, after the operator is started, instead of when the registry is bound.
+ */
+@Singleton
+public class InformerCacheMetricsBinder implements MeterBinder {
+    public static final String OBJECTS_METRIC_NAME = "operator.sdk.informer.cache.objects";
+    public static final String BYTES_METRIC_NAME = "operator.sdk.informer.cache.estimated.bytes";
+    public static final String CONTROLLER_EVENT_SOURCE_NAME = "controller";
+    private static final Logger log = LoggerFactory.getLogger(InformerCacheMetricsBinder.class);
+    private static final long REFRESH_INTERVAL_NANOS = Duration.ofSeconds(30).toNanos();
+
+    private final Instance<Operator> operator;
+    private volatile MeterRegistry registry;
+
+    public InformerCacheMetricsBinder(Instance<Operator> operator) {
+        // the operator is looked up lazily so that binding the registry doesn't create it before its metrics are set up
+        this.operator = operator;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @SuppressWarnings("rawtypes")
+    void onStartup(@Observes @Priority(Interceptor.Priority.LIBRARY_AFTER + 124) StartupEvent event) {
+        final var meterRegistry = registry;
+        if (meterRegistry == null) {
+            return;
+        }
+        operator.get().getRegisteredControllers()
+                .forEach(registered -> bindTo(meterRegistry, (Controller<? extends HasMetadata>) registered));
+    }
+
+    private void bindTo(MeterRegistry registry, Controller<? extends HasMetadata> controller) {
+        final var controllerName = controller.getConfiguration().getName();
+        final var eventSourceManager = controller.getEventSourceManager();
+        final var controllerSource = eventSourceManager.getControllerResourceEventSource();
+        register(registry, controllerName, CONTROLLER_EVENT_SOURCE_NAME, controllerSource::list);
+
+        eventSourceManager.getNamedEventSourcesStream().forEach(metadata -> {
+            final var source = cacheOf(controller, metadata);
+            if (source != null && source != controllerSource) {
+                register(registry, controllerName, metadata.name(), source::list);
+            }
+        });
+    }
+
+    private static Cache<?> cacheOf(Controller<? extends HasMetadata> controller, EventSourceMetadata metadata) {
+        final var resourceType = metadata.resourceType().orElse(null);
+        if (resourceType == null) {
+            return null;
+        }
+        try {
+            final var source = controller.getEventSourceManager().getResourceEventSourceFor(resourceType, metadata.name());
+            return source instanceof Cache ? (Cache<?>) source : null;
+        } catch (Exception e) {
+            log.debug("Couldn't retrieve event source {} of controller {}", metadata.name(),
+                    controller.getConfiguration().getName(), e);
+            return null;
+        }
+    }
+
+    private static void register(MeterRegistry registry, String controllerName, String eventSourceName,
+            Supplier<Stream<?>> cachedObjects) {
+        final var footprint = new InformerCacheFootprint(cachedObjects, Serialization.jsonMapper(), REFRESH_INTERVAL_NANOS);
+        final var tags = Tags.of("controller", controllerName, "event.source", eventSourceName);
+        Gauge.builder(OBJECTS_METRIC_NAME, footprint, InformerCacheFootprint::count)
+                .tags(tags)
+                .baseUnit(BaseUnits.OBJECTS)
+                .description("Number of objects held by the informer cache")
+                .register(registry);
+        Gauge.builder(BYTES_METRIC_NAME, footprint, InformerCacheFootprint::estimatedBytes)
+                .tags(tags)
+                .baseUnit(BaseUnits.BYTES)
+                .description("Estimated heap used by the objects held by the informer cache, based on their serialized size")
+                .register(registry);
+    }
+}
@@ -0,0 +1,95 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.javaoperatorsdk.operator.api.reconciler.Constants;
+import io.javaoperatorsdk.operator.api.reconciler.RetryInfo;
+import io.javaoperatorsdk.operator.monitoring.micrometer.MicrometerMetrics;
+import io.javaoperatorsdk.operator.processing.event.Event;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records, in addition to the metrics JOSDK provides, histograms of how long reconciliations take to be submitted after an
+ * event is received, how long they wait for an executor thread and how long they run, per controller. A growing queue
+ * time calls for more reconciliation threads while a growing execution time calls for a faster reconciler.
+ */
+class LatencyRecordingMicrometerMetrics extends MicrometerMetrics {
+    private static final Duration MINIMUM_EXPECTED_LATENCY = Duration.ofMillis(1);
+    private static final Duration MAXIMUM_EXPECTED_LATENCY = Duration.ofMinutes(5);
+
+    private final MeterRegistry registry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final ReconciliationLatencies latencies = new ReconciliationLatencies(this::record);
+
+    LatencyRecordingMicrometerMetrics(MeterRegistry registry) {
+        super(registry);
+        this.registry = registry;
+    }
+
+    private void record(ReconciliationLatencies.Stage stage, String controllerName, long durationNanos) {
+        timers.computeIfAbsent(stage.getMetricName() + '/' + controllerName, k -> Timer.builder(stage.getMetricName())
+                .tag("controller", controllerName)
+                // percentile histograms use exponentially growing buckets, similar to the ones of HDR histograms
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MINIMUM_EXPECTED_LATENCY)
+                .maximumExpectedValue(MAXIMUM_EXPECTED_LATENCY)
+                .register(registry))
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static String controllerName(Map<String, Object> metadata) {
+        final var name = metadata.get(Constants.CONTROLLER_NAME);
+        return name != null ? name.toString() : null;
+    }
+
+    @Override
+    public void receivedEvent(Event event, Map<String, Object> metadata) {
+        super.receivedEvent(event, metadata);
+        final var controllerName = controllerName(metadata);
+        if (controllerName != null) {
+            latencies.eventReceived(controllerName, event.getRelatedCustomResourceID());
+        }
+    }
+
+    @Override
+    public void reconcileCustomResource(HasMetadata resource, RetryInfo retryInfo, Map<String, Object> metadata) {
+        super.reconcileCustomResource(resource, retryInfo, metadata);
+        final var controllerName = controllerName(metadata);
+        if (controllerName != null) {
+            latencies.enqueued(controllerName, ResourceID.fromResource(resource));
+        }
+    }
+
+    @Override
+    public void reconciliationExecutionStarted(HasMetadata resource, Map<String, Object> metadata) {
+        super.reconciliationExecutionStarted(resource, metadata);
+        final var controllerName = controllerName(metadata);
+        if (controllerName != null) {
+            latencies.started(controllerName, ResourceID.fromResource(resource));
+        }
+    }
+
+    @Override
+    public void reconciliationExecutionFinished(HasMetadata resource, Map<String, Object> metadata) {
+        super.reconciliationExecutionFinished(resource, metadata);
+        final var controllerName = controllerName(metadata);
+        if (controllerName != null) {
+            latencies.finished(controllerName, ResourceID.fromResource(resource));
+        }
+    }
+
+    @Override
+    public void cleanupDoneFor(ResourceID resourceID, Map<String, Object> metadata) {
+        super.cleanupDoneFor(resourceID, metadata);
+        final var controllerName = controllerName(metadata);
+        if (controllerName != null) {
+            latencies.removed(controllerName, resourceID);
+        }
+    }
+}
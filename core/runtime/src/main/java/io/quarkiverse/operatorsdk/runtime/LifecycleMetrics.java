@@ -0,0 +1,139 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Records how long the extension's lifecycle phases take so that they can be exposed as metrics. This class doesn't
+ * depend on any metrics library: timings are handed to a listener, registered when a metrics implementation is available,
+ * and kept until then since phases such as configuration resolution might happen before metrics are set up.
+ */
+public final class LifecycleMetrics {
+    public static final String PREFIX = "operator.sdk.lifecycle.";
+    // phases run a bounded number of times per startup, this only matters if no listener is ever registered
+    private static final int MAX_PENDING_TIMINGS = 256;
+
+    private static final Queue<Timing> pending = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger pendingCount = new AtomicInteger();
+    private static volatile Consumer<Timing> listener;
+
+    private LifecycleMetrics() {
+    }
+
+    public enum Phase {
+        /**
+         * Resolution of the operator and controllers configuration at runtime
+         */
+        CONFIGURATION_RESOLUTION("configuration.resolution", null),
+        /**
+         * Application of a CRD to the cluster, tagged by CRD name
+         */
+        CRD_APPLICATION("crd.application", "crd"),
+        /**
+         * Registration of a reconciler with the operator, tagged by controller name
+         */
+        CONTROLLER_REGISTRATION("controller.registration", "controller"),
+        /**
+         * Operator start, until all controllers are started and their informers synced
+         */
+        STARTUP("startup", null);
+
+        private final String metricName;
+        private final String tagName;
+
+        Phase(String metricName, String tagName) {
+            this.metricName = PREFIX + metricName;
+            this.tagName = tagName;
+        }
+
+        public String getMetricName() {
+            return metricName;
+        }
+
+        /**
+         * @return the name of the tag identifying what the phase applies to or {@code null} if the phase applies to the
+         *         whole operator
+         */
+        public String getTagName() {
+            return tagName;
+        }
+    }
+
+    public static class Timing {
+        private final Phase phase;
+        private final String tagValue;
+        private final long durationNanos;
+
+        private Timing(Phase phase, String tagValue, long durationNanos) {
+            this.phase = phase;
+            this.tagValue = tagValue;
+            this.durationNanos = durationNanos;
+        }
+
+        public Phase getPhase() {
+            return phase;
+        }
+
+        public String getTagValue() {
+            return tagValue;
+        }
+
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+    }
+
+    /**
+     * Records the duration of a phase which started at the specified time
+     *
+     * @param phase the {@link Phase} that just ended
+     * @param tagValue the value of the phase's tag, if any
+     * @param startNanos the value of {@link System#nanoTime()} when the phase started
+     */
+    static void record(Phase phase, String tagValue, long startNanos) {
+        final var timing = new Timing(phase, tagValue, System.nanoTime() - startNanos);
+        final var current = listener;
+        if (current != null) {
+            current.accept(timing);
+        } else if (pendingCount.incrementAndGet() <= MAX_PENDING_TIMINGS) {
+            pending.add(timing);
+            // a listener might have been registered in the meantime
+            drainTo(listener);
+        } else {
+            pendingCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Registers the listener notified of timings, including the ones recorded before it was registered
+     *
+     * @param timingListener the listener to notify
+     */
+    public static void listen(Consumer<Timing> timingListener) {
+        listener = timingListener;
+        drainTo(timingListener);
+    }
+
+    /**
+     * Unregisters the listener and discards pending timings, so that tests don't leak state into each other
+     */
+    static void reset() {
+        listener = null;
+        while (pending.poll() != null) {
+            pendingCount.decrementAndGet();
+        }
+    }
+
+    private static void drainTo(Consumer<Timing> timingListener) {
+        if (timingListener == null) {
+            return;
+        }
+        Timing timing;
+        while ((timing = pending.poll()) != null) {
+            pendingCount.decrementAndGet();
+            timingListener.accept(timing);
+        }
+    }
+}
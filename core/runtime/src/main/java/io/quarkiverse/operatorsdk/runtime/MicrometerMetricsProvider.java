@@ -1,21 +1,41 @@
 package io.quarkiverse.operatorsdk.runtime;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 import jakarta.enterprise.inject.Produces;
 import jakarta.inject.Singleton;
 
 import io.javaoperatorsdk.operator.api.monitoring.Metrics;
-import io.javaoperatorsdk.operator.monitoring.micrometer.MicrometerMetrics;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.binder.MeterBinder;
 import io.quarkus.arc.DefaultBean;
 
 @Singleton
 public class MicrometerMetricsProvider implements MeterBinder {
+    private final AtomicLong lastStartupNanos = new AtomicLong();
     private Metrics metrics = Metrics.NOOP;
 
     @Override
     public void bindTo(MeterRegistry registry) {
-        metrics = new MicrometerMetrics(registry);
+        metrics = new LatencyRecordingMicrometerMetrics(registry);
+        LifecycleMetrics.listen(timing -> {
+            final var phase = timing.getPhase();
+            final var timer = Timer.builder(phase.getMetricName());
+            if (phase.getTagName() != null) {
+                timer.tag(phase.getTagName(), timing.getTagValue());
+            }
+            timer.register(registry).record(timing.getDurationNanos(), TimeUnit.NANOSECONDS);
+            if (phase == LifecycleMetrics.Phase.STARTUP) {
+                lastStartupNanos.set(timing.getDurationNanos());
+            }
+        });
+        TimeGauge.builder(LifecycleMetrics.Phase.STARTUP.getMetricName() + ".last", lastStartupNanos, TimeUnit.NANOSECONDS,
+                AtomicLong::get)
+                .description("How long the last operator startup took until all informers were synced")
+                .register(registry);
     }
 
     @Produces
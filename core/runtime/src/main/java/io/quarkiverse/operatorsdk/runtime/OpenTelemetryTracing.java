@@ -0,0 +1,167 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import java.lang.reflect.Field;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import io.fabric8.kubernetes.client.http.BasicBuilder;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.Interceptor;
+import io.javaoperatorsdk.operator.processing.dependent.workflow.DependentResourceNode;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import io.opentelemetry.context.propagation.TextMapSetter;
+
+/**
+ * Traces reconciliations using OpenTelemetry: a span is created for each sampled reconciliation, with child spans for the
+ * workflow tasks, i.e. dependent resources, it runs, named after the dependent they process. The trace context is
+ * propagated to the requests the operator sends to the API server.
+ */
+@Singleton
+public class OpenTelemetryTracing implements OperatorInstrumentation {
+    static final String INSTRUMENTATION_NAME = "io.quarkiverse.operator-sdk";
+    static final AttributeKey<String> CONTROLLER = AttributeKey.stringKey("operator.sdk.controller");
+    static final AttributeKey<String> TASK = AttributeKey.stringKey("operator.sdk.task");
+    static final AttributeKey<String> DEPENDENT = AttributeKey.stringKey("operator.sdk.dependent");
+    private static final TextMapSetter<BasicBuilder> HEADER_SETTER = (builder, key, value) -> {
+        if (builder != null) {
+            builder.setHeader(key, value);
+        }
+    };
+    // workflow tasks don't expose the dependent node they process so look for it in their fields
+    private static final ClassValue<Optional<Field>> DEPENDENT_NODE_FIELDS = new ClassValue<>() {
+        @Override
+        protected Optional<Field> computeValue(Class<?> type) {
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (DependentResourceNode.class.isAssignableFrom(field.getType())) {
+                        try {
+                            field.setAccessible(true);
+                            return Optional.of(field);
+                        } catch (RuntimeException e) {
+                            return Optional.empty();
+                        }
+                    }
+                }
+            }
+            return Optional.empty();
+        }
+    };
+
+    private final Tracer tracer;
+    private final TextMapPropagator propagator;
+    private final boolean enabled;
+    private final double samplingRatio;
+
+    @Inject
+    public OpenTelemetryTracing(OpenTelemetry openTelemetry, RunTimeOperatorConfiguration configuration) {
+        this(openTelemetry, configuration.tracing);
+    }
+
+    OpenTelemetryTracing(OpenTelemetry openTelemetry, TracingConfiguration configuration) {
+        if (!(configuration.samplingRatio >= 0 && configuration.samplingRatio <= 1)) {
+            throw new IllegalArgumentException("Invalid '" + TracingConfiguration.SAMPLING_RATIO + "' value: "
+                    + configuration.samplingRatio + ", it must be between 0 and 1");
+        }
+        this.enabled = configuration.enabled;
+        this.samplingRatio = configuration.samplingRatio;
+        this.tracer = openTelemetry.getTracer(INSTRUMENTATION_NAME);
+        this.propagator = openTelemetry.getPropagators().getTextMapPropagator();
+    }
+
+    @Override
+    public ExecutorService instrumentReconciliationExecutor(ExecutorService executor) {
+        if (!enabled) {
+            return executor;
+        }
+        return new TaskDecoratingExecutorService(executor, task -> {
+            if (ThreadLocalRandom.current().nextDouble() >= samplingRatio) {
+                return task;
+            }
+            final var description = task.toString();
+            final var controllerName = ControllerExecutorService.controllerNameFromDescription(description);
+            if (controllerName == null) {
+                return task;
+            }
+            return () -> traced(tracer.spanBuilder("reconcile " + controllerName)
+                    .setNoParent()
+                    .setAttribute(CONTROLLER, controllerName)
+                    .setAttribute(TASK, description)
+                    .startSpan(), task);
+        });
+    }
+
+    @Override
+    public ExecutorService instrumentWorkflowExecutor(ExecutorService executor) {
+        if (!enabled) {
+            return executor;
+        }
+        return new TaskDecoratingExecutorService(executor, task -> {
+            // only trace tasks submitted by sampled reconciliations, using the context of the submitting thread
+            final var parent = Context.current();
+            final var parentSpan = Span.fromContext(parent);
+            if (!parentSpan.getSpanContext().isValid()) {
+                return task;
+            }
+            final var dependentName = dependentNameOf(TaskDecoratingExecutorService.submittedTask(task));
+            final var span = tracer.spanBuilder(dependentName != null ? "dependent " + dependentName : "dependent")
+                    .setParent(parent)
+                    .setAttribute(TASK, task.toString());
+            if (dependentName != null) {
+                span.setAttribute(DEPENDENT, dependentName);
+            }
+            return () -> traced(span.startSpan(), task);
+        });
+    }
+
+    @Override
+    public Optional<Interceptor> clientInterceptor() {
+        return enabled ? Optional.of(new ContextPropagatingInterceptor()) : Optional.empty();
+    }
+
+    /**
+     * @param task a workflow task
+     * @return the name of the dependent processed by the specified task or {@code null} if it cannot be determined
+     */
+    static String dependentNameOf(Object task) {
+        return DEPENDENT_NODE_FIELDS.get(task.getClass()).map(field -> {
+            try {
+                final var node = (DependentResourceNode<?, ?>) field.get(task);
+                return node != null ? node.getName() : null;
+            } catch (IllegalAccessException e) {
+                return null;
+            }
+        }).orElse(null);
+    }
+
+    private static void traced(Span span, Runnable task) {
+        try (var ignored = span.makeCurrent()) {
+            task.run();
+        } catch (RuntimeException | Error e) {
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    private class ContextPropagatingInterceptor implements Interceptor {
+        @Override
+        public void before(BasicBuilder builder, HttpRequest request, RequestTags tags) {
+            final var context = Context.current();
+            if (Span.fromContext(context).getSpanContext().isValid()) {
+                propagator.inject(context, builder, HEADER_SETTER);
+            }
+        }
+    }
+}
@@ -1,5 +1,11 @@
 package io.quarkiverse.operatorsdk.runtime;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
@@ -7,7 +13,8 @@ import org.eclipse.microprofile.health.HealthCheck;
 import org.eclipse.microprofile.health.HealthCheckResponse;
 import org.eclipse.microprofile.health.Readiness;
 
-import io.javaoperatorsdk.operator.Operator;
+import io.javaoperatorsdk.operator.RegisteredController;
+import io.javaoperatorsdk.operator.RuntimeInfo;
 
 @Readiness
 @ApplicationScoped
@@ -16,26 +23,56 @@ public class OperatorHealthCheck implements HealthCheck {
     public static final String HEALTH_CHECK_NAME = "Quarkus Operator SDK health check";
     public static final String OK = "OK";
     @Inject
-    Operator operator;
+    OperatorHealthSnapshot snapshot;
 
     @Override
     public HealthCheckResponse call() {
-        final var runtimeInfo = operator.getRuntimeInfo();
-        if (runtimeInfo.isStarted()) {
+        return snapshot.get();
+    }
+
+    static HealthCheckResponse healthOf(RuntimeInfo runtimeInfo) {
+        return responseFor(stateOf(runtimeInfo));
+    }
+
+    /**
+     * Retrieves the names of the unhealthy event sources of each controller
+     *
+     * @param runtimeInfo the operator's {@link RuntimeInfo}
+     * @return a map associating controller names with the names of their unhealthy event sources or {@code null} if the
+     *         operator isn't started
+     */
+    static Map<String, Set<String>> stateOf(RuntimeInfo runtimeInfo) {
+        return runtimeInfo.isStarted() ? stateOf(runtimeInfo.getRegisteredControllers()) : null;
+    }
+
+    /**
+     * Retrieves the names of the unhealthy event sources of the specified controllers
+     *
+     * @param controllers the {@link RegisteredController}s to check
+     * @return a map associating controller names with the names of their unhealthy event sources
+     */
+    @SuppressWarnings("rawtypes")
+    public static Map<String, Set<String>> stateOf(Collection<RegisteredController> controllers) {
+        final var state = new LinkedHashMap<String, Set<String>>();
+        controllers.forEach(rc -> state.put(rc.getConfiguration().getName(),
+                new TreeSet<>(rc.getControllerHealthInfo().unhealthyEventSources().keySet())));
+        return state;
+    }
+
+    static HealthCheckResponse responseFor(Map<String, Set<String>> state) {
+        if (state != null) {
             final var response = HealthCheckResponse.named(HEALTH_CHECK_NAME);
-            final boolean[] healthy = { true };
-            runtimeInfo.getRegisteredControllers().forEach(rc -> {
-                final var name = rc.getConfiguration().getName();
-                final var unhealthy = rc.getControllerHealthInfo().unhealthyEventSources();
+            boolean healthy = true;
+            for (var entry : state.entrySet()) {
+                final var unhealthy = entry.getValue();
                 if (unhealthy.isEmpty()) {
-                    response.withData(name, OK);
+                    response.withData(entry.getKey(), OK);
                 } else {
-                    healthy[0] = false;
-                    response
-                            .withData(name, "unhealthy: " + String.join(", ", unhealthy.keySet()));
+                    healthy = false;
+                    response.withData(entry.getKey(), "unhealthy: " + String.join(", ", unhealthy));
                 }
-            });
-            if (healthy[0]) {
+            }
+            if (healthy) {
                 response.up();
             } else {
                 response.down();
@@ -0,0 +1,127 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import jakarta.interceptor.Interceptor;
+
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.javaoperatorsdk.operator.Operator;
+import io.quarkus.runtime.StartupEvent;
+
+/**
+ * Keeps the last computed health of the operator so that probes don't need to query every controller's event sources.
+ * Reading the snapshot never blocks: it is refreshed on a dedicated thread every
+ * {@code quarkus.operator-sdk.health-check-max-age} while probes keep getting the last computed one. The response itself
+ * is only rebuilt when the health of a controller changed. If the maximum age is {@code 0}, the health is computed each
+ * time it is read instead.
+ */
+@Singleton
+public class OperatorHealthSnapshot {
+    public static final String DEFAULT_MAX_AGE = "1S";
+    private static final Logger log = LoggerFactory.getLogger(OperatorHealthSnapshot.class);
+    private static final HealthCheckResponse NOT_COMPUTED = OperatorHealthCheck.responseFor(null);
+
+    private final Supplier<Map<String, Set<String>>> health;
+    private final Duration maxAge;
+    private ScheduledExecutorService refresher;
+    private volatile Snapshot current;
+
+    @Inject
+    public OperatorHealthSnapshot(Operator operator, RunTimeOperatorConfiguration configuration) {
+        this(() -> OperatorHealthCheck.stateOf(operator.getRuntimeInfo()), configuration.healthCheckMaxAge);
+    }
+
+    /**
+     * @param health computes the unhealthy event sources of each controller, as returned by
+     *        {@link OperatorHealthCheck#stateOf(io.javaoperatorsdk.operator.RuntimeInfo)}
+     * @param maxAge the maximum age of the snapshot
+     */
+    public OperatorHealthSnapshot(Supplier<Map<String, Set<String>>> health, Duration maxAge) {
+        this.health = health;
+        this.maxAge = maxAge;
+    }
+
+    void onStartup(@Observes @Priority(Interceptor.Priority.LIBRARY_AFTER + 124) StartupEvent event) {
+        // the operator is started at this point so that the first probes get its actual health
+        refresh();
+        startRefreshing();
+    }
+
+    synchronized void startRefreshing() {
+        if (refresher != null || !refreshesPeriodically()) {
+            return;
+        }
+        refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+            final var thread = new Thread(r, "operator-sdk-health-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final var period = maxAge.toNanos();
+        refresher.scheduleWithFixedDelay(() -> {
+            try {
+                refresh();
+            } catch (Exception e) {
+                log.warn("Couldn't refresh operator health", e);
+            }
+        }, period, period, TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    synchronized void stopRefreshing() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+            refresher = null;
+        }
+    }
+
+    /**
+     * @return the last computed health of the operator or, if the health isn't cached, its current health
+     */
+    public HealthCheckResponse get() {
+        if (!refreshesPeriodically()) {
+            refresh();
+        }
+        final var snapshot = current;
+        return snapshot != null ? snapshot.response : NOT_COMPUTED;
+    }
+
+    /**
+     * Computes the health of the operator, only rebuilding the response if it changed since the last computation
+     */
+    public void refresh() {
+        final var state = health.get();
+        final var previous = current;
+        final var response = previous != null && Objects.equals(previous.state, state) ? previous.response
+                : OperatorHealthCheck.responseFor(state);
+        current = new Snapshot(state, response);
+    }
+
+    private boolean refreshesPeriodically() {
+        return !maxAge.isZero() && !maxAge.isNegative();
+    }
+
+    private static class Snapshot {
+        private final Map<String, Set<String>> state;
+        private final HealthCheckResponse response;
+
+        private Snapshot(Map<String, Set<String>> state, HealthCheckResponse response) {
+            this.state = state;
+            this.response = response;
+        }
+    }
+}
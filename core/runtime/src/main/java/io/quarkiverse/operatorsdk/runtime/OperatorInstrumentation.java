@@ -0,0 +1,38 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import io.fabric8.kubernetes.client.http.Interceptor;
+
+/**
+ * Hooks into how the operator runs reconciliations, e.g. to trace or measure them, without depending on a specific
+ * observability library. Beans implementing this interface are applied to the executors and to the client the operator
+ * uses when the configuration service is created.
+ */
+public interface OperatorInstrumentation {
+
+    /**
+     * @param executor the {@link ExecutorService} running reconciliations, the description of the tasks it runs being
+     *        formatted as {@code <controller name> -> <execution scope>}
+     * @return the {@link ExecutorService} to use instead
+     */
+    default ExecutorService instrumentReconciliationExecutor(ExecutorService executor) {
+        return executor;
+    }
+
+    /**
+     * @param executor the {@link ExecutorService} running workflow tasks, which are submitted while a reconciliation runs
+     * @return the {@link ExecutorService} to use instead
+     */
+    default ExecutorService instrumentWorkflowExecutor(ExecutorService executor) {
+        return executor;
+    }
+
+    /**
+     * @return an {@link Interceptor} to add to the client the operator uses to send requests to the API server, if any
+     */
+    default Optional<Interceptor> clientInterceptor() {
+        return Optional.empty();
+    }
+}
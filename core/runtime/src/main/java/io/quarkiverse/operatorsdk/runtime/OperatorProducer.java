@@ -1,6 +1,6 @@
 package io.quarkiverse.operatorsdk.runtime;
 
-import static io.quarkiverse.operatorsdk.runtime.CRDUtils.applyCRD;
+import static io.quarkiverse.operatorsdk.runtime.CRDUtils.applyCRDs;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Instance;
@@ -51,14 +51,15 @@ public class OperatorProducer {
         // if some CRDs just got generated and need to be applied, apply them
         final var crdInfo = configuration.getCRDGenerationInfo();
         if (crdInfo.isApplyCRDs()) {
-            for (String generatedCrdName : crdInfo.getGenerated()) {
-                applyCRD(configuration.getClient(), crdInfo, generatedCrdName);
-            }
+            applyCRDs(configuration.getClient(), crdInfo, crdInfo.getGenerated());
         }
 
         Operator operator = new Operator(configuration.getClient(), configuration);
         for (Reconciler<? extends HasMetadata> reconciler : reconcilers) {
-            operator.register(reconciler);
+            final var start = System.nanoTime();
+            final var registered = operator.register(reconciler);
+            LifecycleMetrics.record(LifecycleMetrics.Phase.CONTROLLER_REGISTRATION,
+                    registered.getConfiguration().getName(), start);
         }
 
         return operator;
@@ -0,0 +1,26 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+
+import io.smallrye.health.api.AsyncHealthCheck;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * A variant of {@link OperatorHealthCheck} which can be called from the event loop since it only reads the health snapshot,
+ * used instead of it when {@code quarkus.operator-sdk.reactive-health-check} is set.
+ */
+@Readiness
+@ApplicationScoped
+public class OperatorReactiveHealthCheck implements AsyncHealthCheck {
+    @Inject
+    OperatorHealthSnapshot snapshot;
+
+    @Override
+    public Uni<HealthCheckResponse> call() {
+        return Uni.createFrom().item(snapshot::get);
+    }
+}
@@ -0,0 +1,174 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.javaoperatorsdk.operator.api.config.Cloner;
+import io.quarkiverse.operatorsdk.common.ClassLoadingUtils;
+
+/**
+ * A {@link Cloner} that dispatches to the {@link Cloner} configured for the type of the resource to clone, using the
+ * operator-level {@link ClonerStrategy} for resource types that don't specify one. When the {@link ClonerStrategy#GENERATED}
+ * strategy is used, the type-specialized cloners generated at build time for the primary and dependent resource types
+ * known to the extension are used, falling back to {@link ClonerStrategy#BINARY} for any other resource type. Primary
+ * resources of controllers configured to use copy-on-write resources are wrapped in proxies that only get cloned once
+ * mutated, see {@link CopyOnWriteProxyFactory}.
+ */
+public class QuarkusCloner implements Cloner {
+    static final Cloner NO_CLONING = new Cloner() {
+        @Override
+        public <R extends HasMetadata> R clone(R object) {
+            return object;
+        }
+    };
+
+    private final Map<Class<?>, Cloner> cloners;
+    private final Cloner defaultCloner;
+
+    QuarkusCloner(Map<Class<?>, Cloner> cloners, Cloner defaultCloner) {
+        this.cloners = cloners;
+        this.defaultCloner = defaultCloner;
+    }
+
+    /**
+     * Creates a {@link QuarkusCloner} from the configured strategies and build-time generated cloners information.
+     *
+     * @param defaultStrategy the {@link ClonerStrategy} to use for resource types that don't specify one
+     * @param resourceStrategies a map associating resource class names to the {@link ClonerStrategy} to use for them
+     * @param generatedCloners a map associating resource class names to the name of the generated {@link Cloner}
+     *        implementation handling them
+     * @param copyOnWriteFactories a map associating resource class names to the name of the generated
+     *        {@link CopyOnWriteProxyFactory} implementation handling them
+     * @param mapper the {@link ObjectMapper} to use for serialization-based cloning
+     * @return a new {@link QuarkusCloner}
+     */
+    public static QuarkusCloner from(ClonerStrategy defaultStrategy, Map<String, ClonerStrategy> resourceStrategies,
+            Map<String, String> generatedCloners, Map<String, String> copyOnWriteFactories, ObjectMapper mapper) {
+        final var binary = new BinaryCloner(mapper);
+        final var json = new JsonCloner(mapper);
+
+        final Map<Class<?>, Cloner> generated;
+        if (generatedCloners == null || generatedCloners.isEmpty()) {
+            generated = Collections.emptyMap();
+        } else {
+            generated = new HashMap<>(generatedCloners.size());
+            generatedCloners.forEach((resourceClassName, clonerClassName) -> generated.put(
+                    ClassLoadingUtils.loadClass(resourceClassName, HasMetadata.class),
+                    ClassLoadingUtils.instantiate(ClassLoadingUtils.loadClass(clonerClassName, Cloner.class))));
+        }
+
+        final var cloners = new HashMap<Class<?>, Cloner>();
+        if (defaultStrategy == ClonerStrategy.GENERATED) {
+            cloners.putAll(generated);
+        }
+        if (resourceStrategies != null) {
+            resourceStrategies.forEach((resourceClassName, strategy) -> {
+                final var resourceClass = ClassLoadingUtils.loadClass(resourceClassName, HasMetadata.class);
+                final var cloner = strategy == ClonerStrategy.GENERATED ? generated.getOrDefault(resourceClass, binary)
+                        : clonerFor(strategy, binary, json);
+                cloners.put(resourceClass, cloner);
+            });
+        }
+
+        final var defaultCloner = clonerFor(defaultStrategy, binary, json);
+        if (copyOnWriteFactories != null) {
+            copyOnWriteFactories.forEach((resourceClassName, factoryClassName) -> {
+                final var resourceClass = ClassLoadingUtils.loadClass(resourceClassName, HasMetadata.class);
+                final var delegate = cloners.getOrDefault(resourceClass, defaultCloner);
+                // no need to proxy resources that won't get cloned anyway
+                if (delegate != NO_CLONING) {
+                    final var factory = ClassLoadingUtils.instantiate(
+                            ClassLoadingUtils.loadClass(factoryClassName, CopyOnWriteProxyFactory.class));
+                    cloners.put(resourceClass, new CopyOnWriteCloner(factory, delegate));
+                }
+            });
+        }
+
+        return new QuarkusCloner(cloners, defaultCloner);
+    }
+
+    private static Cloner clonerFor(ClonerStrategy strategy, Cloner binary, Cloner json) {
+        switch (strategy) {
+            case JSON:
+                return json;
+            case NONE:
+                return NO_CLONING;
+            default:
+                return binary;
+        }
+    }
+
+    @Override
+    public <R extends HasMetadata> R clone(R object) {
+        final var cloner = cloners.get(object.getClass());
+        return cloner != null ? cloner.clone(object) : defaultCloner.clone(object);
+    }
+
+    Cloner clonerFor(Class<?> resourceClass) {
+        return cloners.getOrDefault(resourceClass, defaultCloner);
+    }
+
+    static class CopyOnWriteCloner implements Cloner {
+        private final CopyOnWriteProxyFactory factory;
+        private final Cloner delegate;
+
+        CopyOnWriteCloner(CopyOnWriteProxyFactory factory, Cloner delegate) {
+            this.factory = factory;
+            this.delegate = delegate;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <R extends HasMetadata> R clone(R object) {
+            // defer actual cloning to the first time the proxy is mutated
+            return (R) factory.proxy(object, delegate);
+        }
+    }
+
+    static class JsonCloner implements Cloner {
+        private final ObjectMapper mapper;
+
+        JsonCloner(ObjectMapper mapper) {
+            this.mapper = mapper;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <R extends HasMetadata> R clone(R object) {
+            try {
+                return (R) mapper.readValue(mapper.writeValueAsString(object), object.getClass());
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    static class BinaryCloner implements Cloner {
+        private final ObjectMapper mapper;
+
+        BinaryCloner(ObjectMapper mapper) {
+            this.mapper = mapper;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <R extends HasMetadata> R clone(R object) {
+            // record the serialized form as Jackson tokens instead of text so that no encoding / parsing is needed
+            try (var buffer = new TokenBuffer(mapper, false)) {
+                mapper.writeValue(buffer, object);
+                try (var parser = buffer.asParser()) {
+                    return (R) mapper.readValue(parser, object.getClass());
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -4,15 +4,17 @@ import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.function.BiFunction;
 import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
@@ -52,6 +54,14 @@ public class QuarkusConfigurationService extends AbstractConfigurationService im
     private final boolean stopOnInformerErrorDuringStartup;
     private final int concurrentWorkflowExecutorThreads;
     private final Duration cacheSyncTimeout;
+    private final ExecutorType executorType;
+    private final AdaptiveConcurrencyConfiguration adaptiveConcurrency;
+    private volatile AdaptiveConcurrencyExecutorService adaptiveExecutor;
+    private final Map<String, Integer> controllerReconciliationThreads;
+    private final Map<String, Integer> controllerWorkflowThreads;
+    private final List<OperatorInstrumentation> instrumentations;
+    private volatile ControllerExecutorService reconciliationExecutor;
+    private volatile ControllerExecutorService workflowExecutor;
     @SuppressWarnings("rawtypes")
     private final Map<String, DependentResource> knownDependents = new ConcurrentHashMap<>();
 
@@ -61,22 +71,16 @@ public class QuarkusConfigurationService extends AbstractConfigurationService im
             Collection<QuarkusControllerConfiguration> configurations,
             KubernetesClient client,
             CRDGenerationInfo crdInfo, int maxThreads, int maxWorflowThreads,
-            int timeout, Duration cacheSyncTimeout, Metrics metrics, boolean startOperator, ObjectMapper mapper,
+            int timeout, Duration cacheSyncTimeout, ExecutorType executorType,
+            AdaptiveConcurrencyConfiguration adaptiveConcurrency,
+            Map<String, Integer> controllerReconciliationThreads, Map<String, Integer> controllerWorkflowThreads,
+            List<OperatorInstrumentation> instrumentations, Metrics metrics, boolean startOperator, Cloner cloner,
+            ObjectMapper mapper,
             LeaderElectionConfiguration leaderElectionConfiguration, InformerStoppedHandler informerStoppedHandler,
             boolean closeClientOnStop, boolean stopOnInformerErrorDuringStartup) {
         super(version);
         this.closeClientOnStop = closeClientOnStop;
         this.stopOnInformerErrorDuringStartup = stopOnInformerErrorDuringStartup;
-        final var cloner = new Cloner() {
-            @Override
-            public <R extends HasMetadata> R clone(R r) {
-                try {
-                    return (R) mapper.readValue(mapper.writeValueAsString(r), r.getClass());
-                } catch (JsonProcessingException e) {
-                    throw new IllegalStateException(e);
-                }
-            }
-        };
         init(cloner, mapper);
         this.startOperator = startOperator;
         this.client = client;
@@ -97,6 +101,11 @@ public class QuarkusConfigurationService extends AbstractConfigurationService im
         this.concurrentWorkflowExecutorThreads = maxWorflowThreads;
         this.terminationTimeout = timeout;
         this.cacheSyncTimeout = cacheSyncTimeout;
+        this.executorType = executorType;
+        this.adaptiveConcurrency = adaptiveConcurrency;
+        this.controllerReconciliationThreads = controllerReconciliationThreads;
+        this.controllerWorkflowThreads = controllerWorkflowThreads;
+        this.instrumentations = instrumentations;
         this.informerStoppedHandler = informerStoppedHandler;
         this.leaderElectionConfiguration = leaderElectionConfiguration;
     }
@@ -148,6 +157,90 @@ public class QuarkusConfigurationService extends AbstractConfigurationService im
         return this.concurrentReconciliationThreads;
     }
 
+    @Override
+    public ExecutorService getExecutorService() {
+        var shared = executorType.newExecutorService(concurrentReconciliationThreads);
+        if (adaptiveConcurrency != null) {
+            adaptiveExecutor = new AdaptiveConcurrencyExecutorService(shared, concurrentReconciliationThreads,
+                    adaptiveConcurrency);
+            shared = adaptiveExecutor;
+        }
+        // workflow tasks are routed based on the controller of the reconciliation that submitted them, which is only
+        // tracked when reconciliations go through a ControllerExecutorService
+        if (controllerReconciliationThreads.isEmpty() && controllerWorkflowThreads.isEmpty()) {
+            return instrument(shared, OperatorInstrumentation::instrumentReconciliationExecutor);
+        }
+        reconciliationExecutor = ControllerExecutorService.forReconciliations(executorType, shared,
+                controllerReconciliationThreads);
+        return instrument(reconciliationExecutor, OperatorInstrumentation::instrumentReconciliationExecutor);
+    }
+
+    @Override
+    public ExecutorService getWorkflowExecutorService() {
+        final var shared = executorType.newExecutorService(concurrentWorkflowExecutorThreads);
+        if (controllerWorkflowThreads.isEmpty()) {
+            return instrument(shared, OperatorInstrumentation::instrumentWorkflowExecutor);
+        }
+        workflowExecutor = ControllerExecutorService.forNestedTasks(executorType, shared, controllerWorkflowThreads);
+        return instrument(workflowExecutor, OperatorInstrumentation::instrumentWorkflowExecutor);
+    }
+
+    private ExecutorService instrument(ExecutorService executor,
+            BiFunction<OperatorInstrumentation, ExecutorService, ExecutorService> instrumenter) {
+        var instrumented = executor;
+        for (OperatorInstrumentation instrumentation : instrumentations) {
+            instrumented = instrumenter.apply(instrumentation, instrumented);
+        }
+        return instrumented;
+    }
+
+    /**
+     * Retrieves the current number of concurrent reconciliations allowed for controllers using the shared reconciliation
+     * executor when adaptive concurrency is enabled
+     *
+     * @return the current concurrency limit, empty if adaptive concurrency is disabled or if the operator hasn't been
+     *         started yet
+     */
+    public Optional<Integer> getAdaptiveConcurrencyLimit() {
+        final var executor = adaptiveExecutor;
+        return executor != null ? Optional.of(executor.currentLimit()) : Optional.empty();
+    }
+
+    /**
+     * Signals that the API server is overloaded, e.g. because it throttled or failed a request, so that the adaptive
+     * concurrency limit decreases if adaptive concurrency is enabled
+     */
+    void overloadDetected() {
+        final var executor = adaptiveExecutor;
+        if (executor != null) {
+            executor.overloadDetected();
+        }
+    }
+
+    /**
+     * Retrieves the activity of the reconciliation executors dedicated to controllers configured with their own
+     * {@code concurrent-reconciliation-threads}
+     *
+     * @return a map associating controller names with their dedicated reconciliation executor statistics, empty if no
+     *         controller uses a dedicated executor or if the operator hasn't been started yet
+     */
+    public Map<String, ExecutorStatistics> getReconciliationExecutorStatistics() {
+        final var executor = reconciliationExecutor;
+        return executor != null ? executor.statistics() : Collections.emptyMap();
+    }
+
+    /**
+     * Retrieves the activity of the workflow executors dedicated to controllers configured with their own
+     * {@code concurrent-workflow-threads}
+     *
+     * @return a map associating controller names with their dedicated workflow executor statistics, empty if no
+     *         controller uses a dedicated executor or if the operator hasn't been started yet
+     */
+    public Map<String, ExecutorStatistics> getWorkflowExecutorStatistics() {
+        final var executor = workflowExecutor;
+        return executor != null ? executor.statistics() : Collections.emptyMap();
+    }
+
     @Override
     public int getTerminationTimeoutSeconds() {
         return terminationTimeout;
@@ -250,6 +343,20 @@ public class QuarkusConfigurationService extends AbstractConfigurationService im
         return dependentResource;
     }
 
+    /**
+     * Records the specified, already configured, dependent resource so that it's returned by
+     * {@link #createFrom(DependentResourceSpec, QuarkusControllerConfiguration)} instead of being retrieved from ArC, which
+     * is needed when this service is used outside a Quarkus application, e.g. in benchmarks.
+     *
+     * @param controllerName the name of the controller the dependent resource is associated with
+     * @param dependentName the name of the dependent resource
+     * @param dependentResource the configured dependent resource instance
+     */
+    @SuppressWarnings("rawtypes")
+    public void registerDependent(String controllerName, String dependentName, DependentResource dependentResource) {
+        knownDependents.put(getDependentKeyFromNames(controllerName, dependentName), dependentResource);
+    }
+
     @SuppressWarnings("rawtypes")
     private static String getDependentKey(QuarkusControllerConfiguration configuration,
             DependentResourceSpec spec) {
@@ -73,6 +73,7 @@ public class QuarkusControllerConfiguration<R extends HasMetadata> implements Co
     private final Optional<OnAddFilter<R>> onAddFilter;
     private final Optional<OnUpdateFilter<R>> onUpdateFilter;
     private final Optional<GenericFilter<R>> genericFilter;
+    private final boolean copyOnWrite;
     private Class<? extends Annotation> retryConfigurationClass;
     private Class<? extends Retry> retryClass;
     private Class<? extends Annotation> rateLimiterConfigurationClass;
@@ -103,7 +104,7 @@ public class QuarkusControllerConfiguration<R extends HasMetadata> implements Co
             Class<? extends Retry> retryClass, Class<? extends Annotation> retryConfigurationClass,
             Class<? extends RateLimiter> rateLimiterClass, Class<? extends Annotation> rateLimiterConfigurationClass,
             Map<String, DependentResourceSpecMetadata<?, ?, ?>> dependentsMetadata,
-            ManagedWorkflow<R> workflow) {
+            ManagedWorkflow<R> workflow, boolean copyOnWrite) {
         this.associatedReconcilerClassName = associatedReconcilerClassName;
         this.name = name;
         this.resourceTypeName = resourceTypeName;
@@ -124,6 +125,7 @@ public class QuarkusControllerConfiguration<R extends HasMetadata> implements Co
         this.onAddFilter = Optional.ofNullable(onAddFilter);
         this.onUpdateFilter = Optional.ofNullable(onUpdateFilter);
         this.genericFilter = Optional.ofNullable(genericFilter);
+        this.copyOnWrite = copyOnWrite;
 
         this.retryClass = retryClass;
         this.retry = GenericRetry.class.equals(retryClass) ? ControllerConfiguration.super.getRetry() : null;
@@ -241,6 +243,10 @@ public class QuarkusControllerConfiguration<R extends HasMetadata> implements Co
         return dependentsMetadata != null && !dependentsMetadata.isEmpty();
     }
 
+    public boolean isCopyOnWrite() {
+        return copyOnWrite;
+    }
+
     public ManagedWorkflow<R> getWorkflow() {
         return workflow;
     }
@@ -269,6 +275,13 @@ public class QuarkusControllerConfiguration<R extends HasMetadata> implements Co
         return rateLimiter;
     }
 
+    void setRateLimiter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+        // make sure the rate limiter doesn't get reconfigured from annotations
+        this.rateLimiterClass = null;
+        this.rateLimiterConfigurationClass = null;
+    }
+
     @Override
     public ResourceEventFilter<R> getEventFilter() {
         return eventFilter;
@@ -0,0 +1,146 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Splits the latency between the reception of an event and the end of the reconciliation it triggers into its successive
+ * stages, for each resource. Events received while a reconciliation is already pending or running are accounted for in
+ * the next reconciliation, which is the one that will process them.
+ */
+class ReconciliationLatencies {
+
+    enum Stage {
+        /**
+         * From the reception of the first event triggering a reconciliation to the submission of that reconciliation
+         */
+        ENQUEUE("operator.sdk.reconciliation.enqueue.delay"),
+        /**
+         * From the submission of a reconciliation to its start on an executor thread
+         */
+        QUEUED("operator.sdk.reconciliation.queue.time"),
+        /**
+         * From the start to the end of a reconciliation
+         */
+        EXECUTION("operator.sdk.reconciliation.execution.time");
+
+        private final String metricName;
+
+        Stage(String metricName) {
+            this.metricName = metricName;
+        }
+
+        String getMetricName() {
+            return metricName;
+        }
+    }
+
+    interface Recorder {
+        void record(Stage stage, String controllerName, long durationNanos);
+    }
+
+    private static final long NONE = -1;
+
+    private final Map<Key, Timestamps> pending = new ConcurrentHashMap<>();
+    private final Recorder recorder;
+    private final LongSupplier nanoTime;
+
+    ReconciliationLatencies(Recorder recorder) {
+        this(recorder, System::nanoTime);
+    }
+
+    ReconciliationLatencies(Recorder recorder, LongSupplier nanoTime) {
+        this.recorder = recorder;
+        this.nanoTime = nanoTime;
+    }
+
+    void eventReceived(String controllerName, Object resourceId) {
+        final var now = nanoTime.getAsLong();
+        pending.compute(new Key(controllerName, resourceId), (key, timestamps) -> {
+            final var current = timestamps != null ? timestamps : new Timestamps();
+            if (current.eventReceivedAt == NONE) {
+                current.eventReceivedAt = now;
+            }
+            return current;
+        });
+    }
+
+    void enqueued(String controllerName, Object resourceId) {
+        final var now = nanoTime.getAsLong();
+        pending.compute(new Key(controllerName, resourceId), (key, timestamps) -> {
+            final var current = timestamps != null ? timestamps : new Timestamps();
+            if (current.eventReceivedAt != NONE) {
+                recorder.record(Stage.ENQUEUE, controllerName, now - current.eventReceivedAt);
+                current.eventReceivedAt = NONE;
+            }
+            current.enqueuedAt = now;
+            return current;
+        });
+    }
+
+    void started(String controllerName, Object resourceId) {
+        final var now = nanoTime.getAsLong();
+        pending.computeIfPresent(new Key(controllerName, resourceId), (key, current) -> {
+            if (current.enqueuedAt != NONE) {
+                recorder.record(Stage.QUEUED, controllerName, now - current.enqueuedAt);
+                current.enqueuedAt = NONE;
+            }
+            current.startedAt = now;
+            return current;
+        });
+    }
+
+    void finished(String controllerName, Object resourceId) {
+        final var now = nanoTime.getAsLong();
+        pending.computeIfPresent(new Key(controllerName, resourceId), (key, current) -> {
+            if (current.startedAt != NONE) {
+                recorder.record(Stage.EXECUTION, controllerName, now - current.startedAt);
+                current.startedAt = NONE;
+            }
+            // keep tracking the resource only if events were received in the meantime
+            return current.eventReceivedAt != NONE || current.enqueuedAt != NONE ? current : null;
+        });
+    }
+
+    void removed(String controllerName, Object resourceId) {
+        pending.remove(new Key(controllerName, resourceId));
+    }
+
+    int trackedResources() {
+        return pending.size();
+    }
+
+    private static class Timestamps {
+        private long eventReceivedAt = NONE;
+        private long enqueuedAt = NONE;
+        private long startedAt = NONE;
+    }
+
+    private static class Key {
+        private final String controllerName;
+        private final Object resourceId;
+
+        private Key(String controllerName, Object resourceId) {
+            this.controllerName = controllerName;
+            this.resourceId = resourceId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final var key = (Key) o;
+            return controllerName.equals(key.controllerName) && resourceId.equals(key.resourceId);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * controllerName.hashCode() + resourceId.hashCode();
+        }
+    }
+}
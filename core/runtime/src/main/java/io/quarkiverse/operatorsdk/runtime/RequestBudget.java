@@ -0,0 +1,95 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A token bucket shared by all the requests the operator sends to the API server, part of which is reserved to higher
+ * priority requests so that they are not starved by lower priority ones.
+ */
+class RequestBudget {
+
+    enum Priority {
+        /**
+         * Requests that need to go through for reconciliations to make progress, e.g. status updates or finalizer changes
+         */
+        CRITICAL(0),
+        /**
+         * Requests that can use part of the reserve, e.g. reads or deletions
+         */
+        NORMAL(0.5),
+        /**
+         * Requests that cannot use the reserve, e.g. dependent resources creations
+         */
+        BULK(1);
+
+        private final double reserveShare;
+
+        Priority(double reserveShare) {
+            this.reserveShare = reserveShare;
+        }
+    }
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final double reserved;
+    private double tokens;
+    private long lastRefill;
+
+    RequestBudget(RequestBudgetConfiguration configuration) {
+        this(configuration.requestsPerSecond, configuration.burst.orElse(2 * configuration.requestsPerSecond),
+                configuration.reservedRatio);
+    }
+
+    RequestBudget(int requestsPerSecond, int burst, double reservedRatio) {
+        if (requestsPerSecond < 1 || burst < 1) {
+            throw new IllegalArgumentException("Request budget requires positive requests per second and burst, got: "
+                    + requestsPerSecond + ", " + burst);
+        }
+        if (reservedRatio < 0 || burst * (1 - reservedRatio) < 1) {
+            throw new IllegalArgumentException("Request budget reserved ratio must leave room for at least one request "
+                    + "in a burst of " + burst + ", got: " + reservedRatio);
+        }
+        this.capacity = burst;
+        this.tokensPerNano = requestsPerSecond / (double) TimeUnit.SECONDS.toNanos(1);
+        this.reserved = burst * reservedRatio;
+        this.tokens = burst;
+        this.lastRefill = System.nanoTime();
+    }
+
+    /**
+     * Waits until the budget allows a request of the specified priority to be sent
+     *
+     * @param priority the priority of the request
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    void acquire(Priority priority) throws InterruptedException {
+        while (true) {
+            final long waitNanos;
+            synchronized (this) {
+                waitNanos = tryAcquire(priority, System.nanoTime());
+                if (waitNanos == 0) {
+                    return;
+                }
+            }
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Attempts to take a token for a request of the specified priority
+     *
+     * @param priority the priority of the request
+     * @param now the current time in nanoseconds
+     * @return {@code 0} if a token was taken, otherwise the estimated number of nanoseconds to wait before retrying
+     */
+    synchronized long tryAcquire(Priority priority, long now) {
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+        final var floor = reserved * priority.reserveShare;
+        if (tokens - 1 >= floor) {
+            tokens -= 1;
+            return 0;
+        }
+        return Math.max((long) Math.ceil((floor + 1 - tokens) / tokensPerNano), 1);
+    }
+}
@@ -0,0 +1,39 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class RequestBudgetConfiguration {
+
+    /**
+     * Whether requests sent to the API server by the operator should draw from a shared, operator-wide, request budget.
+     * Note that this only applies to requests sent by the client used by the operator and the dependent resources it manages
+     * while running reconciliations or workflows, not to informers and watches or to {@code KubernetesClient} instances
+     * injected in reconcilers.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The sustained number of requests per second the operator is allowed to send to the API server
+     */
+    @ConfigItem(defaultValue = "50")
+    public int requestsPerSecond;
+
+    /**
+     * The maximum number of requests that can be sent in a burst, defaults to twice the number of requests per second
+     */
+    @ConfigItem
+    public Optional<Integer> burst;
+
+    /**
+     * The fraction of the budget reserved for critical requests, i.e. status updates and resource updates such as
+     * finalizer additions or removals, which bulk requests, such as dependent resource creations, cannot use. Half of that
+     * reserve is also unavailable to other requests, such as reads and deletions. Watches are never limited.
+     */
+    @ConfigItem(defaultValue = "0.2")
+    public double reservedRatio;
+}
@@ -0,0 +1,128 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import java.net.URI;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.http.BasicBuilder;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.Interceptor;
+import io.fabric8.kubernetes.client.http.StandardHttpRequest;
+
+/**
+ * Makes requests sent to the API server wait for the {@link RequestBudget} to allow them, based on their priority.
+ * <p>
+ * Waiting blocks the thread sending the request so only requests sent from reconciliation or workflow tasks, whose threads
+ * are dedicated to them, are limited: informers, watches and client retries run on shared threads that must not block and
+ * their requests are never limited.
+ */
+class RequestBudgetInterceptor implements Interceptor, OperatorInstrumentation {
+    private static final String STATUS_SUBRESOURCE = "/status";
+    private static final String APPLY_PATCH = "application/apply-patch+yaml";
+    private static final String CONTENT_TYPE = "Content-Type";
+
+    private final RequestBudget budget;
+    private final ThreadLocal<Boolean> limited = ThreadLocal.withInitial(() -> false);
+
+    RequestBudgetInterceptor(RequestBudget budget) {
+        this.budget = budget;
+    }
+
+    @Override
+    public ExecutorService instrumentReconciliationExecutor(ExecutorService executor) {
+        return new TaskDecoratingExecutorService(executor, this::limited);
+    }
+
+    @Override
+    public ExecutorService instrumentWorkflowExecutor(ExecutorService executor) {
+        return new TaskDecoratingExecutorService(executor, this::limited);
+    }
+
+    @Override
+    public Optional<Interceptor> clientInterceptor() {
+        return Optional.of(this);
+    }
+
+    Runnable limited(Runnable task) {
+        return () -> {
+            final boolean previous = limited.get();
+            limited.set(true);
+            try {
+                task.run();
+            } finally {
+                limited.set(previous);
+            }
+        };
+    }
+
+    @Override
+    public void before(BasicBuilder builder, HttpRequest request, RequestTags tags) {
+        acquire(request.method(), request.uri(), contentTypeOf(request));
+    }
+
+    /**
+     * @param request the request to retrieve the body content type of
+     * @return the content type of the request body or {@code null} if it cannot be determined
+     */
+    static String contentTypeOf(HttpRequest request) {
+        // the body content type isn't part of the headers of the requests built by fabric8
+        if (request instanceof StandardHttpRequest) {
+            final var contentType = ((StandardHttpRequest) request).getContentType();
+            if (contentType != null) {
+                return contentType;
+            }
+        }
+        final var contentTypes = request.headers(CONTENT_TYPE);
+        return contentTypes == null || contentTypes.isEmpty() ? null : contentTypes.get(0);
+    }
+
+    void acquire(String method, URI uri, String contentType) {
+        if (!limited.get()) {
+            return;
+        }
+        final var priority = priorityOf(method, uri, contentType);
+        if (priority == null) {
+            return;
+        }
+        try {
+            budget.acquire(priority);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KubernetesClientException("Interrupted while waiting for the API server request budget", e);
+        }
+    }
+
+    /**
+     * Determines the priority of a request
+     *
+     * @param method the HTTP method of the request
+     * @param uri the request {@link URI}
+     * @param contentType the content type of the request body, if any
+     * @return the {@link RequestBudget.Priority} of the request or {@code null} if the request shouldn't be limited
+     */
+    static RequestBudget.Priority priorityOf(String method, URI uri, String contentType) {
+        final var query = uri.getQuery();
+        if (query != null && query.contains("watch=true")) {
+            // watches are long-lived and don't put a significant load on the API server once established
+            return null;
+        }
+
+        switch (method) {
+            case "POST":
+                return RequestBudget.Priority.BULK;
+            case "PATCH":
+                // server-side apply is used to create or update dependent resources
+                if (uri.getPath().endsWith(STATUS_SUBRESOURCE)
+                        || (contentType == null || !contentType.startsWith(APPLY_PATCH))) {
+                    return RequestBudget.Priority.CRITICAL;
+                }
+                return RequestBudget.Priority.BULK;
+            case "PUT":
+                // replacements are used to update status and finalizers
+                return RequestBudget.Priority.CRITICAL;
+            default:
+                return RequestBudget.Priority.NORMAL;
+        }
+    }
+}
@@ -29,10 +29,32 @@ public class RunTimeControllerConfiguration {
     @ConfigItem
     public ExternalRetryConfiguration retry;
 
+    /**
+     * The optional controller rate limiter configuration
+     */
+    @ConfigItem
+    public ExternalRateLimiterConfiguration rateLimiter;
+
     /**
      * An optional list of comma-separated label selectors that Custom Resources must match to trigger the controller.
      * See https://kubernetes.io/docs/concepts/overview/working-with-objects/labels/ for more details on selectors.
      */
     @ConfigItem
     public Optional<String> selector;
+
+    /**
+     * The optional max number of concurrent reconciliations for this controller. If set, reconciliations for this
+     * controller are dispatched to a dedicated thread pool of that size, isolated from the pool shared by the other
+     * controllers.
+     */
+    @ConfigItem
+    public Optional<Integer> concurrentReconciliationThreads;
+
+    /**
+     * The optional max number of concurrent workflow processing requests for this controller. If set, the controller's
+     * workflow tasks are dispatched to a dedicated thread pool of that size, isolated from the pool shared by the other
+     * controllers.
+     */
+    @ConfigItem
+    public Optional<Integer> concurrentWorkflowThreads;
 }
@@ -51,16 +51,61 @@ public class RunTimeOperatorConfiguration {
     @ConfigItem
     public Optional<List<String>> namespaces;
 
+    /**
+     * How often the configured {@code namespaces}, both at the operator and controller levels, should be checked for changes
+     * so that controllers start or stop watching the added or removed namespaces without restarting the operator. This is
+     * useful when namespaces are provided by a configuration source which values can change while the operator is running.
+     * Namespaces are not checked for changes if not set.
+     */
+    @ConfigItem
+    public Optional<Duration> namespacesRefreshInterval;
+
     /**
      * The max number of concurrent workflow processing requests.
      */
     @ConfigItem
     public Optional<Integer> concurrentWorkflowThreads;
 
+    /**
+     * The kind of threads used to run reconciliations and workflows. Using {@code virtual} threads, a new virtual thread is
+     * created for each reconciliation or workflow task instead of relying on fixed-size pools, in which case
+     * {@code concurrent-reconciliation-threads} and {@code concurrent-workflow-threads} are ignored. This is better suited to
+     * reconcilers and dependent resources spending most of their time blocked on I/O. Virtual threads require Java 21+, the
+     * operator fails to start if they are requested but not supported.
+     */
+    @ConfigItem(defaultValue = "platform")
+    public ExecutorType executorType;
+
+    /**
+     * The configuration of the adaptive adjustment of the number of concurrent reconciliations.
+     */
+    @ConfigItem
+    public AdaptiveConcurrencyConfiguration adaptiveConcurrency;
+
+    /**
+     * The configuration of the operator-wide budget of requests sent to the API server.
+     */
+    @ConfigItem
+    public RequestBudgetConfiguration requestBudget;
+
+    /**
+     * The configuration of the tracing of reconciliations.
+     */
+    @ConfigItem
+    public TracingConfiguration tracing;
+
     /**
      * How long the operator will wait for informers to finish synchronizing their caches on startup
      * before timing out.
      */
     @ConfigItem(defaultValue = "2M")
     public Duration cacheSyncTimeout;
+
+    /**
+     * How old the operator health reported by the readiness health check can get before it is refreshed, the refresh
+     * happening periodically in the background so that health checks don't need to query every controller's event sources.
+     * Set to {@code 0} to compute the health on each check instead.
+     */
+    @ConfigItem(defaultValue = OperatorHealthSnapshot.DEFAULT_MAX_AGE)
+    public Duration healthCheckMaxAge;
 }
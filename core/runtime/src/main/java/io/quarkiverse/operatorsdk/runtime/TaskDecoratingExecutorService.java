@@ -0,0 +1,110 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * An {@link ExecutorService} decorating the tasks it is given before passing them to another executor. Decorated tasks keep
+ * the description of the original ones since it's what associates reconciliation tasks with their controller.
+ */
+class TaskDecoratingExecutorService extends AbstractExecutorService {
+    private final ExecutorService delegate;
+    private final UnaryOperator<Runnable> decorator;
+
+    TaskDecoratingExecutorService(ExecutorService delegate, UnaryOperator<Runnable> decorator) {
+        this.delegate = delegate;
+        this.decorator = decorator;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        final var decorated = decorator.apply(task);
+        if (decorated == task) {
+            delegate.execute(task);
+        } else {
+            delegate.execute(new Runnable() {
+                @Override
+                public void run() {
+                    decorated.run();
+                }
+
+                @Override
+                public String toString() {
+                    return task.toString();
+                }
+            });
+        }
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        return new SubmittedTask<>(runnable, value);
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        return new SubmittedTask<>(callable);
+    }
+
+    /**
+     * @param task a task passed to the decorator
+     * @return the task as it was submitted to this executor, i.e. the {@link Runnable} or {@link Callable} wrapped by the
+     *         specified task if it was submitted rather than executed, the specified task otherwise
+     */
+    static Object submittedTask(Runnable task) {
+        return task instanceof SubmittedTask ? ((SubmittedTask<?>) task).submitted : task;
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * A submitted task, keeping track of what was submitted and described like it
+     */
+    private static class SubmittedTask<T> extends FutureTask<T> {
+        private final Object submitted;
+
+        private SubmittedTask(Runnable runnable, T value) {
+            super(runnable, value);
+            this.submitted = runnable;
+        }
+
+        private SubmittedTask(Callable<T> callable) {
+            super(callable);
+            this.submitted = callable;
+        }
+
+        @Override
+        public String toString() {
+            return submitted.toString();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.javaoperatorsdk.operator.processing.event.rate.RateLimiter;
+import io.javaoperatorsdk.operator.processing.event.rate.RateLimiter.RateLimitState;
+
+/**
+ * A {@link RateLimiter} allowing bursts of reconciliations for a given resource, up to its capacity, while limiting the
+ * sustained rate to the configured number of reconciliations per period.
+ */
+public class TokenBucketRateLimiter implements RateLimiter<TokenBucketRateLimiter.TokenBucketState> {
+    private final int capacity;
+    private final double tokensPerNano;
+
+    public TokenBucketRateLimiter(Duration refreshPeriod, int limitForPeriod, int capacity) {
+        if (limitForPeriod < 1 || capacity < 1 || refreshPeriod.isZero() || refreshPeriod.isNegative()) {
+            throw new IllegalArgumentException("Token bucket rate limiter requires a positive refresh period, limit and"
+                    + " capacity, got: " + refreshPeriod + ", " + limitForPeriod + ", " + capacity);
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = (double) limitForPeriod / refreshPeriod.toNanos();
+    }
+
+    @Override
+    public Optional<Duration> isLimited(RateLimitState rateLimitState) {
+        final var state = (TokenBucketState) rateLimitState;
+        final var now = System.nanoTime();
+        state.tokens = Math.min(capacity, state.tokens + (now - state.lastRefill) * tokensPerNano);
+        state.lastRefill = now;
+        if (state.tokens >= 1) {
+            state.tokens -= 1;
+            return Optional.empty();
+        }
+        // wait until a token becomes available
+        return Optional.of(Duration.ofNanos((long) Math.ceil((1 - state.tokens) / tokensPerNano)));
+    }
+
+    @Override
+    public TokenBucketState initState() {
+        return new TokenBucketState(capacity, System.nanoTime());
+    }
+
+    public static class TokenBucketState implements RateLimitState {
+        private double tokens;
+        private long lastRefill;
+
+        private TokenBucketState(double tokens, long lastRefill) {
+            this.tokens = tokens;
+            this.lastRefill = lastRefill;
+        }
+    }
+}
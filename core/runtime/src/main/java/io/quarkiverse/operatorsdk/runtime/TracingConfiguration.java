@@ -0,0 +1,27 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class TracingConfiguration {
+
+    public static final String SAMPLING_RATIO = "quarkus.operator-sdk.tracing.sampling-ratio";
+    public static final String DEFAULT_SAMPLING_RATIO = "0.1";
+
+    /**
+     * Whether reconciliations should be traced using OpenTelemetry, creating a span for each reconciliation and a child
+     * span for each workflow task, and propagating the trace context to requests sent to the API server by the operator.
+     * Only applies if the OpenTelemetry extension is present.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The fraction of reconciliations that are traced, between {@code 0} and {@code 1}, other values preventing the
+     * operator from starting. Reconciliations which are not sampled, as well as their workflow tasks, don't create any
+     * span, which keeps the overhead low under load.
+     */
+    @ConfigItem(defaultValue = DEFAULT_SAMPLING_RATIO)
+    public double samplingRatio;
+}
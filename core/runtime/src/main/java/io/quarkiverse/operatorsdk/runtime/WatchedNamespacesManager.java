@@ -0,0 +1,145 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.javaoperatorsdk.operator.Operator;
+import io.javaoperatorsdk.operator.RegisteredController;
+import io.quarkus.runtime.StartupEvent;
+
+/**
+ * Changes the namespaces watched by running controllers without restarting the operator: only the informers associated
+ * with added namespaces are started and only the ones associated with removed namespaces are stopped, leaving the caches
+ * of the other namespaces untouched.
+ * <p>
+ * Namespaces can either be changed programmatically or from the configuration, the {@code namespaces} properties being
+ * checked for changes periodically if {@code quarkus.operator-sdk.namespaces-refresh-interval} is set.
+ */
+@Singleton
+public class WatchedNamespacesManager {
+    private static final String NAMESPACES = "quarkus.operator-sdk.namespaces";
+    private static final String CONTROLLERS_PREFIX = "quarkus.operator-sdk.controllers.";
+    private static final Logger log = LoggerFactory.getLogger(WatchedNamespacesManager.class);
+
+    @SuppressWarnings("rawtypes")
+    private final Supplier<Set<RegisteredController>> controllers;
+    private final Optional<Duration> refreshInterval;
+    private ScheduledExecutorService refresher;
+
+    @Inject
+    public WatchedNamespacesManager(Operator operator, RunTimeOperatorConfiguration configuration) {
+        this(operator::getRegisteredControllers, configuration.namespacesRefreshInterval);
+    }
+
+    @SuppressWarnings("rawtypes")
+    WatchedNamespacesManager(Supplier<Set<RegisteredController>> controllers, Optional<Duration> refreshInterval) {
+        this.controllers = controllers;
+        this.refreshInterval = refreshInterval.filter(d -> !d.isZero() && !d.isNegative());
+    }
+
+    void onStartup(@Observes StartupEvent event) {
+        refreshInterval.ifPresent(d -> {
+            refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+                final var thread = new Thread(r, "operator-sdk-namespaces-refresher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            refresher.scheduleWithFixedDelay(() -> {
+                try {
+                    refreshFromConfiguration();
+                } catch (Exception e) {
+                    log.warn("Couldn't refresh watched namespaces from configuration", e);
+                }
+            }, d.toMillis(), d.toMillis(), TimeUnit.MILLISECONDS);
+        });
+    }
+
+    @PreDestroy
+    void stopRefreshing() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    /**
+     * Retrieves the namespaces currently watched by the specified controller
+     *
+     * @param controllerName the name of the controller
+     * @return the set of namespaces the controller watches
+     * @throws IllegalArgumentException if no controller with the specified name is registered
+     */
+    public Set<String> getNamespaces(String controllerName) {
+        return registeredController(controllerName).getConfiguration().getNamespaces();
+    }
+
+    /**
+     * Changes the namespaces watched by the specified controller, only starting and stopping the informers associated with
+     * the namespaces that were added or removed, respectively
+     *
+     * @param controllerName the name of the controller
+     * @param namespaces the namespaces the controller should watch
+     * @return {@code true} if the watched namespaces changed, {@code false} if they were already the requested ones
+     * @throws IllegalArgumentException if no controller with the specified name is registered
+     */
+    public synchronized boolean changeNamespaces(String controllerName, Set<String> namespaces) {
+        final var controller = registeredController(controllerName);
+        final var configuration = (QuarkusControllerConfiguration<?>) controller.getConfiguration();
+        final var current = configuration.getNamespaces();
+        if (current.equals(namespaces)) {
+            return false;
+        }
+
+        final var newNamespaces = Set.copyOf(namespaces);
+        controller.changeNamespaces(newNamespaces);
+        configuration.setNamespaces(newNamespaces);
+        log.info("Controller '{}' now watches namespaces {} instead of {}", controllerName, newNamespaces, current);
+        return true;
+    }
+
+    /**
+     * Changes the namespaces watched by the registered controllers to match the currently configured ones, i.e. the
+     * controller-specific {@code namespaces} property or, if not set, the operator-level one. Controllers for which no
+     * namespaces are configured are left untouched.
+     */
+    public void refreshFromConfiguration() {
+        refreshFrom(ConfigProvider.getConfig());
+    }
+
+    void refreshFrom(Config config) {
+        for (RegisteredController<?> controller : controllers.get()) {
+            final var name = controller.getConfiguration().getName();
+            configuredNamespaces(config, name).ifPresent(namespaces -> changeNamespaces(name, namespaces));
+        }
+    }
+
+    static Optional<Set<String>> configuredNamespaces(Config config, String controllerName) {
+        return config.getOptionalValues(CONTROLLERS_PREFIX + controllerName + ".namespaces", String.class)
+                .or(() -> config.getOptionalValues(CONTROLLERS_PREFIX + "\"" + controllerName + "\".namespaces",
+                        String.class))
+                .or(() -> config.getOptionalValues(NAMESPACES, String.class))
+                .map(namespaces -> new HashSet<>(namespaces));
+    }
+
+    private RegisteredController<?> registeredController(String controllerName) {
+        return controllers.get().stream()
+                .filter(controller -> controllerName.equals(controller.getConfiguration().getName()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("No controller named '" + controllerName + "' is registered"));
+    }
+}
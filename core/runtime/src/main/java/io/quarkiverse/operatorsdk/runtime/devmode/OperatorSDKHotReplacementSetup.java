@@ -1,23 +1,114 @@
 package io.quarkiverse.operatorsdk.runtime.devmode;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
+import org.jboss.logging.Logger;
+
+import io.quarkiverse.operatorsdk.runtime.DevModeConfiguration;
 import io.quarkus.dev.spi.HotReplacementContext;
 import io.quarkus.dev.spi.HotReplacementSetup;
 
 public class OperatorSDKHotReplacementSetup implements HotReplacementSetup {
-    private static final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    private static final Logger log = Logger.getLogger(OperatorSDKHotReplacementSetup.class.getName());
+
+    // hot replacement is set up before the application starts, i.e. before its configuration is recorded, so keep track of
+    // the setup for the recorder to configure it once the configuration is known
+    private static volatile OperatorSDKHotReplacementSetup instance;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+        final var thread = new Thread(r, "operator-sdk-dev-mode-scanner");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private HotReplacementContext context;
+    private ScheduledFuture<?> periodicScan;
+    private SourceChangesWatcher watcher;
+    private List<Object> applied;
 
     @Override
     public void setupHotDeployment(HotReplacementContext context) {
-        executor.scheduleAtFixedRate(() -> {
+        this.context = context;
+        instance = this;
+    }
+
+    /**
+     * Configures how changes are detected in dev mode. Called each time the application (re)starts so only actually
+     * reconfigures change detection when the configuration changed.
+     *
+     * @param configuration the {@link DevModeConfiguration} to apply
+     */
+    public static void configure(DevModeConfiguration configuration) {
+        final var setup = instance;
+        if (setup != null) {
+            setup.configure(configuration.watchChanges, configuration.debounce, configuration.scanInterval);
+        }
+    }
+
+    private synchronized void configure(boolean watchChanges, Duration debounce, Duration scanInterval) {
+        final var requested = List.<Object> of(watchChanges, debounce, scanInterval);
+        if (requested.equals(applied)) {
+            return;
+        }
+        stop();
+        applied = requested;
+
+        final Runnable scan = () -> {
             try {
                 context.doScan(false);
             } catch (Exception e) {
                 throw new IllegalStateException(e);
             }
-        }, 10, 10, TimeUnit.SECONDS);
+        };
+
+        if (!scanInterval.isZero() && !scanInterval.isNegative()) {
+            final var interval = scanInterval.toMillis();
+            periodicScan = executor.scheduleAtFixedRate(scan, interval, interval, TimeUnit.MILLISECONDS);
+        }
+
+        if (watchChanges) {
+            final var directories = new ArrayList<Path>(context.getSourcesDir());
+            directories.addAll(context.getResourcesDir());
+            try {
+                // scan on the scanner thread so that scans never overlap
+                watcher = new SourceChangesWatcher(directories, debounce, () -> executor.execute(scan));
+                final var watcherThread = new Thread(watcher, "operator-sdk-dev-mode-watcher");
+                watcherThread.setDaemon(true);
+                watcherThread.start();
+            } catch (IOException e) {
+                log.warnv("Couldn''t watch {0} for changes, relying on periodic scans: {1}", directories, e.getMessage());
+            }
+        }
+    }
+
+    private void stop() {
+        if (periodicScan != null) {
+            periodicScan.cancel(false);
+            periodicScan = null;
+        }
+        if (watcher != null) {
+            try {
+                watcher.close();
+            } catch (IOException e) {
+                log.debug("Couldn't stop watching for changes", e);
+            }
+            watcher = null;
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        stop();
+        executor.shutdownNow();
+        if (instance == this) {
+            instance = null;
+        }
     }
 }
@@ -0,0 +1,138 @@
+package io.quarkiverse.operatorsdk.runtime.devmode;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Watches directories, recursively, for changes, calling back once changes have stopped happening for the configured
+ * debounce period so that saving several files in a row only results in one notification. Hidden files and directories
+ * as well as backup files, as typically created by editors, are ignored.
+ */
+class SourceChangesWatcher implements Runnable, Closeable {
+    private static final Logger log = Logger.getLogger(SourceChangesWatcher.class.getName());
+
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> watched = new ConcurrentHashMap<>();
+    private final long debounceMillis;
+    private final Runnable onChanges;
+
+    SourceChangesWatcher(Collection<Path> directories, Duration debounce, Runnable onChanges) throws IOException {
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.debounceMillis = Math.max(debounce.toMillis(), 0);
+        this.onChanges = onChanges;
+        for (Path directory : directories) {
+            registerRecursively(directory);
+        }
+    }
+
+    private void registerRecursively(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                if (!dir.equals(directory) && !isRelevant(dir)) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                watched.put(dir.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE), dir);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * @param path the changed path
+     * @return {@code true} if changes to the specified path should trigger a notification, {@code false} if the path is
+     *         hidden or a backup file
+     */
+    static boolean isRelevant(Path path) {
+        final var fileName = path.getFileName();
+        if (fileName == null) {
+            return true;
+        }
+        final var name = fileName.toString();
+        return !name.startsWith(".") && !name.endsWith("~");
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                // block until something changes then wait for changes to settle
+                var key = watchService.take();
+                var changed = false;
+                do {
+                    changed |= process(key);
+                    key = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS);
+                } while (key != null);
+
+                if (changed) {
+                    onChanges.run();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // watcher was closed, stop watching
+        }
+    }
+
+    /**
+     * @return {@code true} if any of the events associated with the specified key should trigger a notification
+     */
+    private boolean process(WatchKey key) {
+        final var directory = watched.get(key);
+        var changed = false;
+        for (var event : key.pollEvents()) {
+            // overflow events don't have a context but might hide relevant changes
+            if (!(event.context() instanceof Path)) {
+                changed = true;
+                continue;
+            }
+            final var path = (Path) event.context();
+            if (!isRelevant(path)) {
+                continue;
+            }
+            changed = true;
+            // watch newly created directories so that changes to files they contain are picked up
+            if (directory != null && event.kind() == ENTRY_CREATE) {
+                final var created = directory.resolve(path);
+                try {
+                    registerRecursively(created);
+                } catch (IOException e) {
+                    log.debugv(e, "Couldn''t watch {0} for changes", created);
+                }
+            }
+        }
+        if (!key.reset()) {
+            watched.remove(key);
+        }
+        return changed;
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+}
@@ -0,0 +1,115 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyExecutorServiceTest {
+    private static final long THRESHOLD = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void limitShouldIncreaseAdditivelyAndDecreaseMultiplicatively() {
+        final var now = new AtomicLong();
+        final var executor = new AdaptiveConcurrencyExecutorService(Executors.newSingleThreadExecutor(), 1, 2, 4,
+                THRESHOLD, 0.5, now::get);
+        try {
+            // each fast task increases the limit by 1 / limit
+            executor.adjustLimit(0);
+            executor.adjustLimit(0);
+            assertEquals(2, executor.currentLimit());
+            executor.adjustLimit(0);
+            assertEquals(3, executor.currentLimit());
+
+            // limit never exceeds the upper bound
+            for (int i = 0; i < 20; i++) {
+                executor.adjustLimit(0);
+            }
+            assertEquals(4, executor.currentLimit());
+
+            // slow tasks halve the limit, once per window, down to the lower bound
+            executor.adjustLimit(2 * THRESHOLD);
+            assertEquals(2, executor.currentLimit());
+            now.addAndGet(THRESHOLD);
+            executor.adjustLimit(2 * THRESHOLD);
+            now.addAndGet(THRESHOLD);
+            executor.adjustLimit(2 * THRESHOLD);
+            assertEquals(1, executor.currentLimit());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void limitShouldDecreaseAtMostOncePerWindow() {
+        final var now = new AtomicLong();
+        final var executor = new AdaptiveConcurrencyExecutorService(Executors.newSingleThreadExecutor(), 1, 8, 8,
+                THRESHOLD, 0.5, now::get);
+        try {
+            // a burst of slow completions only decreases the limit once
+            for (int i = 0; i < 5; i++) {
+                executor.adjustLimit(2 * THRESHOLD);
+            }
+            assertEquals(4, executor.currentLimit());
+
+            // throttled requests count as overload but are subject to the same window
+            now.addAndGet(THRESHOLD / 2);
+            executor.overloadDetected();
+            assertEquals(4, executor.currentLimit());
+
+            now.addAndGet(THRESHOLD / 2);
+            executor.overloadDetected();
+            assertEquals(2, executor.currentLimit());
+            executor.adjustLimit(2 * THRESHOLD);
+            assertEquals(2, executor.currentLimit());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void throttledAndFailedResponsesShouldBeReportedAsOverload() {
+        assertTrue(AdaptiveConcurrencyInterceptor.isOverloaded(429));
+        assertTrue(AdaptiveConcurrencyInterceptor.isOverloaded(500));
+        assertTrue(AdaptiveConcurrencyInterceptor.isOverloaded(503));
+        assertFalse(AdaptiveConcurrencyInterceptor.isOverloaded(200));
+        assertFalse(AdaptiveConcurrencyInterceptor.isOverloaded(404));
+        assertFalse(AdaptiveConcurrencyInterceptor.isOverloaded(409));
+    }
+
+    @Test
+    void shouldNotRunMoreTasksThanTheLimit() throws InterruptedException {
+        final var executor = new AdaptiveConcurrencyExecutorService(Executors.newFixedThreadPool(4), 1, 2, 4,
+                THRESHOLD, 0.5, System::nanoTime);
+        final var running = new AtomicInteger();
+        final var maxRunning = new AtomicInteger();
+        final var done = new CountDownLatch(10);
+        try {
+            for (int i = 0; i < 10; i++) {
+                executor.execute(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(20);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    running.decrementAndGet();
+                    done.countDown();
+                });
+            }
+            done.await(5, TimeUnit.SECONDS);
+            assertEquals(0, done.getCount());
+            // the limit starts at 2 and can only grow by one every couple of tasks
+            assertTrue(maxRunning.get() <= 4);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
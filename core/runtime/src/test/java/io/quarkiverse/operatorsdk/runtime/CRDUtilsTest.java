@@ -0,0 +1,278 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinition;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientBuilder;
+import io.fabric8.kubernetes.client.http.BasicBuilder;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.Interceptor;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+
+@EnableKubernetesMockClient(crud = true)
+class CRDUtilsTest {
+    private static final YAMLMapper MAPPER = new YAMLMapper();
+    private static final String CRDS_PATH = "/apis/apiextensions.k8s.io/v1/customresourcedefinitions";
+
+    KubernetesMockServer server;
+    KubernetesClient client;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void crdsShouldBeAppliedConcurrently() throws IOException {
+        final var recorder = new RecordingInterceptor(TimeUnit.MILLISECONDS.toNanos(200));
+        final var crdNames = IntStream.range(0, 4).mapToObj(i -> "foos" + i + ".example.com").collect(Collectors.toList());
+        final var info = crdInfo(crdNames, 0);
+        expectApply(crdNames);
+
+        CRDUtils.applyCRDs(recording(recorder), info, crdNames);
+
+        crdNames.forEach(crdName -> assertTrue(recorder.requests.stream()
+                .anyMatch(request -> request.startsWith("PATCH ") && request.contains("/" + crdName + "?"))));
+        assertTrue(recorder.maxInFlight.get() > 1);
+    }
+
+    @Test
+    void crdsShouldBeAppliedUsingServerSideApply() throws Exception {
+        final var crdName = "foos.example.com";
+        final var info = crdInfo(List.of(crdName), 0);
+        expectApply(List.of(crdName));
+
+        assertTrue(CRDUtils.applyCRD(client, info, crdName));
+
+        final var patch = patchRequest();
+        assertNotNull(patch);
+        assertEquals(CRDS_PATH + "/" + crdName, patch[0]);
+        assertTrue(patch[2].startsWith("application/apply-patch+yaml"));
+        final var query = queryParameters(patch[1]);
+        assertEquals(CRDUtils.FIELD_MANAGER, query.get("fieldManager"));
+        assertEquals("true", query.get("force"));
+    }
+
+    @Test
+    void shouldNotWaitForCRDsToBeEstablishedWithoutTimeout() throws IOException {
+        final var recorder = new RecordingInterceptor(0);
+        final var crdNames = List.of("foos.example.com");
+        final var info = crdInfo(crdNames, 0);
+        expectApply(crdNames);
+
+        CRDUtils.applyCRDs(recording(recorder), info, crdNames);
+
+        // the mock server never establishes CRDs so waiting for them would require watching them
+        assertFalse(recorder.requests.stream().anyMatch(request -> request.contains("watch=true")));
+    }
+
+    @Test
+    void shouldStopWaitingForCRDsToBeEstablishedAfterTimeout() throws IOException {
+        final var crdNames = List.of("foos.example.com", "bars.example.com");
+        final var timeout = Duration.ofMillis(500);
+        final var info = crdInfo(crdNames, timeout.toMillis());
+        expectApply(crdNames);
+
+        final var start = System.nanoTime();
+        CRDUtils.applyCRDs(client, info, crdNames);
+        final var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // CRDs are waited for concurrently so the timeout applies to all of them at once
+        assertTrue(elapsed.compareTo(timeout) >= 0);
+        assertTrue(elapsed.compareTo(timeout.multipliedBy(2).plusSeconds(5)) < 0);
+    }
+
+    @Test
+    void parsedCRDsShouldBeCachedButNotShared() throws IOException {
+        final var crdName = "foos.example.com";
+        final var info = crdInfo(crdName, "hash");
+
+        final var first = (CustomResourceDefinition) CRDUtils.loadCRD(crdName, "v1", info);
+        assertEquals("hash", first.getMetadata().getAnnotations().get(CRDUtils.CONTENT_HASH_ANNOTATION));
+        first.getSpec().getNames().setSingular("modified");
+
+        // the file isn't parsed again as long as its hash doesn't change
+        Files.writeString(Path.of(info.getFilePath()), crd(crdName).replace("singular: foo", "singular: bar"));
+        final var second = CRDUtils.loadCRD(crdName, "v1", info);
+        assertNotSame(first, second);
+        assertEquals("foo", singularOf(second));
+    }
+
+    @Test
+    void parsedCRDsShouldBeInvalidatedWhenTheirHashChanges() throws IOException {
+        final var crdName = "foos.example.com";
+        final var info = crdInfo(crdName, "hash");
+        assertEquals("foo", singularOf(CRDUtils.loadCRD(crdName, "v1", info)));
+
+        Files.writeString(Path.of(info.getFilePath()), crd(crdName).replace("singular: foo", "singular: bar"));
+        final var changed = new CRDInfo(crdName, "v1", info.getFilePath(), Set.of(), Map.of(), "changed");
+        final var reloaded = CRDUtils.loadCRD(crdName, "v1", changed);
+        assertEquals("bar", singularOf(reloaded));
+        assertEquals("changed", reloaded.getMetadata().getAnnotations().get(CRDUtils.CONTENT_HASH_ANNOTATION));
+    }
+
+    @Test
+    void parsedCRDsWithoutHashShouldBeInvalidatedWhenTheirFileChanges() throws IOException {
+        final var crdName = "foos.example.com";
+        final var info = crdInfo(crdName, null);
+        final var file = Path.of(info.getFilePath());
+        Files.setLastModifiedTime(file, FileTime.fromMillis(1_000_000));
+        assertEquals("foo", singularOf(CRDUtils.loadCRD(crdName, "v1", info)));
+
+        // same length so that only the modification time tells the files apart
+        Files.writeString(file, crd(crdName).replace("singular: foo", "singular: bar"));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(2_000_000));
+        assertEquals("bar", singularOf(CRDUtils.loadCRD(crdName, "v1", info)));
+    }
+
+    /**
+     * Makes the mock server accept applying the specified CRDs, which it doesn't support, and creates them without status
+     * so that they are never established
+     */
+    private void expectApply(List<String> crdNames) throws IOException {
+        for (String crdName : crdNames) {
+            final var crd = MAPPER.readValue(crd(crdName), CustomResourceDefinition.class);
+            server.expect().patch()
+                    .withPath(CRDS_PATH + "/" + crdName + "?fieldManager=" + CRDUtils.FIELD_MANAGER + "&force=true")
+                    .andReturn(200, crd)
+                    .always();
+            client.apiextensions().v1().customResourceDefinitions().resource(crd).create();
+        }
+    }
+
+    private static String singularOf(HasMetadata crd) {
+        return ((CustomResourceDefinition) crd).getSpec().getNames().getSingular();
+    }
+
+    /**
+     * @return the path, query and content type of the first PATCH request received by the mock server, {@code null} if
+     *         none was received
+     */
+    private String[] patchRequest() throws InterruptedException {
+        final var received = server.getRequestCount();
+        for (int i = 0; i < received; i++) {
+            final var request = server.takeRequest(1, TimeUnit.SECONDS);
+            if (request != null && "PATCH".equals(request.getMethod())) {
+                final var path = request.getPath();
+                final var separator = path.indexOf('?');
+                return new String[] {
+                        separator < 0 ? path : path.substring(0, separator),
+                        separator < 0 ? "" : path.substring(separator + 1),
+                        Objects.requireNonNullElse(request.getHeader("Content-Type"), "")
+                };
+            }
+        }
+        return null;
+    }
+
+    private static Map<String, String> queryParameters(String query) {
+        final var parameters = new HashMap<String, String>();
+        for (String parameter : query.split("&")) {
+            final var separator = parameter.indexOf('=');
+            if (separator > 0) {
+                parameters.put(parameter.substring(0, separator), parameter.substring(separator + 1));
+            }
+        }
+        return parameters;
+    }
+
+    private KubernetesClient recording(Interceptor interceptor) {
+        return new KubernetesClientBuilder()
+                .withConfig(client.getConfiguration())
+                .withHttpClientBuilderConsumer(builder -> builder.addOrReplaceInterceptor("recording", interceptor))
+                .build();
+    }
+
+    private CRDGenerationInfo crdInfo(List<String> crdNames, long establishedTimeoutMillis) throws IOException {
+        final var crds = new HashMap<String, Map<String, CRDInfo>>();
+        for (String crdName : crdNames) {
+            crds.put(crdName, Map.of("v1", crdInfo(crdName, null)));
+        }
+        return new CRDGenerationInfo(true, false, crds, Set.copyOf(crdNames), establishedTimeoutMillis);
+    }
+
+    private CRDInfo crdInfo(String crdName, String contentHash) throws IOException {
+        final var file = dir.resolve(crdName + "-v1.yml");
+        Files.writeString(file, crd(crdName));
+        return new CRDInfo(crdName, "v1", file.toString(), Set.of(), Map.of(), contentHash);
+    }
+
+    static String crd(String crdName) {
+        final var plural = crdName.substring(0, crdName.indexOf('.'));
+        final var group = crdName.substring(crdName.indexOf('.') + 1);
+        return "apiVersion: apiextensions.k8s.io/v1\n"
+                + "kind: CustomResourceDefinition\n"
+                + "metadata:\n"
+                + "  name: " + crdName + "\n"
+                + "spec:\n"
+                + "  group: " + group + "\n"
+                + "  names:\n"
+                + "    kind: Foo\n"
+                + "    plural: " + plural + "\n"
+                + "    singular: foo\n"
+                + "  scope: Namespaced\n"
+                + "  versions:\n"
+                + "  - name: v1\n"
+                + "    served: true\n"
+                + "    storage: true\n"
+                + "    schema:\n"
+                + "      openAPIV3Schema:\n"
+                + "        type: object\n";
+    }
+
+    /**
+     * Records the requests sent by the client, optionally slowing down PATCH requests so that concurrent applications
+     * overlap
+     */
+    private static class RecordingInterceptor implements Interceptor {
+        private final long patchDelayNanos;
+        private final List<String> requests = new CopyOnWriteArrayList<>();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        private RecordingInterceptor(long patchDelayNanos) {
+            this.patchDelayNanos = patchDelayNanos;
+        }
+
+        @Override
+        public void before(BasicBuilder builder, HttpRequest request, RequestTags tags) {
+            requests.add(request.method() + " " + request.uri());
+            if (patchDelayNanos > 0 && "PATCH".equals(request.method())) {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    TimeUnit.NANOSECONDS.sleep(patchDelayNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            }
+        }
+    }
+}
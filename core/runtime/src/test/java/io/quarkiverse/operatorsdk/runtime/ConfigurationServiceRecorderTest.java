@@ -1,9 +1,14 @@
 package io.quarkiverse.operatorsdk.runtime;
 
+import static io.quarkiverse.operatorsdk.runtime.ConfigurationServiceRecorder.rateLimiterFrom;
+import static io.quarkiverse.operatorsdk.runtime.ConfigurationServiceRecorder.safestClonerStrategy;
 import static io.quarkiverse.operatorsdk.runtime.ConfigurationServiceRecorder.shouldStartOperator;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
@@ -27,4 +32,31 @@ class ConfigurationServiceRecorderTest {
 
         assertTrue(shouldStartOperator(null, null));
     }
-}
\ No newline at end of file
+
+    @Test
+    void checkSafestClonerStrategy() {
+        // cloning should only be skipped if all controllers sharing a resource type agree to it
+        assertEquals(ClonerStrategy.JSON, safestClonerStrategy(ClonerStrategy.NONE, ClonerStrategy.JSON));
+        assertEquals(ClonerStrategy.BINARY, safestClonerStrategy(ClonerStrategy.BINARY, ClonerStrategy.NONE));
+        assertEquals(ClonerStrategy.NONE, safestClonerStrategy(ClonerStrategy.NONE, ClonerStrategy.NONE));
+    }
+
+    @Test
+    void checkRateLimiterFromConfiguration() {
+        final var config = new ExternalRateLimiterConfiguration();
+        config.refreshPeriod = Optional.of(Duration.ofSeconds(1));
+        config.limitForPeriod = Optional.empty();
+        config.burst = Optional.of(5);
+        // rate limiter shouldn't be overridden if no limit is provided
+        assertTrue(rateLimiterFrom(config).isEmpty());
+
+        config.limitForPeriod = Optional.of(2);
+        assertInstanceOf(TokenBucketRateLimiter.class, rateLimiterFrom(config).orElseThrow());
+
+        config.burst = Optional.empty();
+        final var linear = rateLimiterFrom(config).orElseThrow();
+        assertInstanceOf(QuarkusControllerConfiguration.DefaultRateLimiter.class, linear);
+        assertEquals(Duration.ofSeconds(1),
+                ((QuarkusControllerConfiguration.DefaultRateLimiter) linear).getRefreshPeriod());
+    }
+}
@@ -0,0 +1,87 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+class ControllerExecutorServiceTest {
+
+    @Test
+    void shouldDispatchTasksToTheirControllerExecutor() throws Exception {
+        final var shared = Executors.newSingleThreadExecutor();
+        final var sharedThread = shared.submit(() -> Thread.currentThread().getName()).get();
+        final var reconciliations = ControllerExecutorService.forReconciliations(ExecutorType.PLATFORM, shared,
+                Map.of("slow", 1));
+        final var sharedWorkflow = Executors.newSingleThreadExecutor();
+        final var sharedWorkflowThread = sharedWorkflow.submit(() -> Thread.currentThread().getName()).get();
+        final var workflows = ControllerExecutorService.forNestedTasks(ExecutorType.PLATFORM, sharedWorkflow,
+                Map.of("slow", 1));
+        try {
+            assertEquals(sharedThread, run(reconciliations, "fast -> scope").get(5, TimeUnit.SECONDS)[0]);
+            assertEquals(sharedThread, run(reconciliations, "not a reconciliation").get(5, TimeUnit.SECONDS)[0]);
+
+            final var threads = run(reconciliations, "slow -> scope", workflows).get(5, TimeUnit.SECONDS);
+            assertNotEquals(sharedThread, threads[0]);
+            // tasks submitted from a controller's task should be dispatched to that controller's executor
+            assertNotEquals(sharedWorkflowThread, threads[1]);
+            assertEquals(Set.of("slow"), workflows.statistics().keySet());
+            assertEquals(1, reconciliations.statistics().get("slow").getMaxThreads());
+        } finally {
+            reconciliations.shutdownNow();
+            workflows.shutdownNow();
+        }
+    }
+
+    @Test
+    void dedicatedExecutorsShouldUseTheConfiguredExecutorType() {
+        Assumptions.assumeFalse(ExecutorType.virtualThreadsAvailable());
+        final var shared = Executors.newSingleThreadExecutor();
+        try {
+            // creating a virtual thread executor fails on JVMs without virtual threads instead of silently using a pool
+            assertThrows(IllegalStateException.class,
+                    () -> ControllerExecutorService.forReconciliations(ExecutorType.VIRTUAL, shared, Map.of("slow", 1)));
+            assertThrows(IllegalStateException.class,
+                    () -> ControllerExecutorService.forNestedTasks(ExecutorType.VIRTUAL, shared, Map.of("slow", 1)));
+        } finally {
+            shared.shutdownNow();
+        }
+    }
+
+    private static CompletableFuture<String[]> run(ControllerExecutorService executor, String description) {
+        return run(executor, description, null);
+    }
+
+    private static CompletableFuture<String[]> run(ControllerExecutorService executor, String description,
+            ControllerExecutorService nested) {
+        final var result = new CompletableFuture<String[]>();
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    final var thread = Thread.currentThread().getName();
+                    final var nestedThread = nested != null
+                            ? nested.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS)
+                            : null;
+                    result.complete(new String[] { thread, nestedThread });
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public String toString() {
+                return description;
+            }
+        });
+        return result;
+    }
+}
@@ -0,0 +1,51 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+class ExecutorTypeTest {
+
+    @Test
+    void platformShouldCreateBoundedPool() {
+        final var executor = ExecutorType.PLATFORM.newExecutorService(3);
+        try {
+            assertTrue(executor instanceof ThreadPoolExecutor);
+            final var pool = (ThreadPoolExecutor) executor;
+            assertEquals(3, pool.getCorePoolSize());
+            assertEquals(3, pool.getMaximumPoolSize());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void virtualShouldFailClearlyWhenNotSupported() {
+        final var e = assertThrows(IllegalStateException.class, () -> ExecutorType.VIRTUAL.newExecutorService(3, null));
+        assertTrue(e.getMessage().contains("Virtual threads are not supported"));
+        assertTrue(e.getMessage().contains("quarkus.operator-sdk.executor-type"));
+    }
+
+    @Test
+    void virtualShouldFailOnJvmsWithoutVirtualThreads() {
+        Assumptions.assumeFalse(ExecutorType.virtualThreadsAvailable());
+        assertThrows(IllegalStateException.class, () -> ExecutorType.VIRTUAL.newExecutorService(3));
+    }
+
+    @Test
+    void virtualShouldNotBePooledOnJvmsWithVirtualThreads() {
+        Assumptions.assumeTrue(ExecutorType.virtualThreadsAvailable());
+        final var executor = ExecutorType.VIRTUAL.newExecutorService(3);
+        try {
+            assertFalse(executor instanceof ThreadPoolExecutor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
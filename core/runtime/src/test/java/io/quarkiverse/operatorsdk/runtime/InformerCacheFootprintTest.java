@@ -0,0 +1,70 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.utils.Serialization;
+
+class InformerCacheFootprintTest {
+
+    @Test
+    void shouldExtrapolateSampledSizeAndOnlyRefreshAfterInterval() throws Exception {
+        final List<ConfigMap> cached = new ArrayList<>();
+        final var objectSize = add(cached, InformerCacheFootprint.SAMPLE_SIZE * 2);
+        final var now = new AtomicLong();
+        final var footprint = new InformerCacheFootprint(cached::stream, Serialization.jsonMapper(), 100, now::get);
+
+        assertEquals(cached.size(), footprint.count());
+        assertEquals(objectSize * cached.size(), footprint.estimatedBytes());
+
+        add(cached, 10);
+        assertEquals(cached.size(), footprint.count());
+        // estimate is cached until the refresh interval elapses
+        assertEquals(objectSize * (cached.size() - 10), footprint.estimatedBytes());
+        now.addAndGet(100);
+        assertEquals(objectSize * cached.size(), footprint.estimatedBytes());
+
+        cached.clear();
+        now.addAndGet(100);
+        assertEquals(0, footprint.estimatedBytes());
+    }
+
+    @Test
+    void shouldSampleWholeCacheRatherThanFirstObjects() throws Exception {
+        final List<ConfigMap> cached = new ArrayList<>();
+        // small objects first, followed by many more large ones
+        add(cached, InformerCacheFootprint.SAMPLE_SIZE);
+        final var largeSize = add(cached, InformerCacheFootprint.SAMPLE_SIZE * 31, "x".repeat(10_000));
+        final var footprint = new InformerCacheFootprint(cached::stream, Serialization.jsonMapper(), 100);
+
+        // sampling only the first objects would estimate the cache to be about 100 times smaller
+        final var estimate = footprint.estimatedBytes();
+        assertTrue(estimate > largeSize * cached.size() / 2, () -> "Unexpected estimate: " + estimate);
+        assertTrue(estimate <= largeSize * cached.size(), () -> "Unexpected estimate: " + estimate);
+    }
+
+    private static long add(List<ConfigMap> cached, int count) throws Exception {
+        return add(cached, count, "value");
+    }
+
+    private static long add(List<ConfigMap> cached, int count, String value) throws Exception {
+        long size = 0;
+        for (int i = 0; i < count; i++) {
+            // names of the same length so that all objects have the same serialized size
+            final var configMap = new ConfigMapBuilder().withNewMetadata().withName(String.format("cm-%05d", cached.size()))
+                    .endMetadata().addToData("key", value).build();
+            size = Serialization.jsonMapper().writeValueAsBytes(configMap).length;
+            cached.add(configMap);
+        }
+        assertTrue(size > 0);
+        return size;
+    }
+}
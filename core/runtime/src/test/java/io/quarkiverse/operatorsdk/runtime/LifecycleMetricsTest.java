@@ -0,0 +1,50 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LifecycleMetricsTest {
+
+    @BeforeEach
+    @AfterEach
+    void resetListener() {
+        LifecycleMetrics.reset();
+    }
+
+    @Test
+    void shouldReplayTimingsRecordedBeforeListenerIsRegistered() {
+        final var start = System.nanoTime();
+        LifecycleMetrics.record(LifecycleMetrics.Phase.CONFIGURATION_RESOLUTION, null, start);
+
+        final List<LifecycleMetrics.Timing> timings = new ArrayList<>();
+        LifecycleMetrics.listen(timings::add);
+        assertEquals(1, timings.size());
+        assertEquals(LifecycleMetrics.Phase.CONFIGURATION_RESOLUTION, timings.get(0).getPhase());
+        assertTrue(timings.get(0).getDurationNanos() >= 0);
+
+        LifecycleMetrics.record(LifecycleMetrics.Phase.CRD_APPLICATION, "foos.example.com", start);
+        assertEquals(2, timings.size());
+        assertEquals("foos.example.com", timings.get(1).getTagValue());
+        assertEquals("crd", timings.get(1).getPhase().getTagName());
+    }
+
+    @Test
+    void shouldOnlyKeepBoundedNumberOfPendingTimings() {
+        final var start = System.nanoTime();
+        for (int i = 0; i < 1000; i++) {
+            LifecycleMetrics.record(LifecycleMetrics.Phase.CONTROLLER_REGISTRATION, "controller-" + i, start);
+        }
+
+        final List<LifecycleMetrics.Timing> timings = new ArrayList<>();
+        LifecycleMetrics.listen(timings::add);
+        assertEquals(256, timings.size());
+        assertEquals("controller-0", timings.get(0).getTagValue());
+    }
+}
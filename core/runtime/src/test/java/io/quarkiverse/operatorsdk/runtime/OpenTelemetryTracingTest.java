@@ -0,0 +1,200 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.ReconcileResult;
+import io.javaoperatorsdk.operator.processing.dependent.workflow.DependentResourceNode;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+
+@EnableKubernetesMockClient
+class OpenTelemetryTracingTest {
+
+    KubernetesClient client;
+
+    private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+    private OpenTelemetrySdk openTelemetry;
+    private ExecutorService reconciliationExecutor;
+    private ExecutorService workflowExecutor;
+
+    @BeforeEach
+    void setUp() {
+        openTelemetry = OpenTelemetrySdk.builder()
+                .setTracerProvider(SdkTracerProvider.builder().addSpanProcessor(SimpleSpanProcessor.create(exporter)).build())
+                .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+                .build();
+        reconciliationExecutor = Executors.newSingleThreadExecutor();
+        workflowExecutor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        reconciliationExecutor.shutdownNow();
+        workflowExecutor.shutdownNow();
+        openTelemetry.getSdkTracerProvider().close();
+    }
+
+    @Test
+    void sampledReconciliationsShouldParentDependentSpansAndPropagateContext() throws Exception {
+        final var tracing = new OpenTelemetryTracing(openTelemetry, configuration(true, 1));
+        final var node = dependentNode();
+
+        final var traceParent = reconcile(tracing, new WorkflowTask(node));
+
+        assertEquals(2, exporter.getFinishedSpanItems().size());
+        final var reconciliation = span("reconcile foo");
+        final var dependent = span("dependent " + node.getName());
+        assertFalse(reconciliation.getParentSpanContext().isValid());
+        assertEquals("foo", reconciliation.getAttributes().get(OpenTelemetryTracing.CONTROLLER));
+        assertEquals(reconciliation.getTraceId(), dependent.getTraceId());
+        assertEquals(reconciliation.getSpanId(), dependent.getParentSpanId());
+        assertEquals(node.getName(), dependent.getAttributes().get(OpenTelemetryTracing.DEPENDENT));
+
+        // requests sent from the dependent are associated with its span
+        assertNotNull(traceParent);
+        assertTrue(traceParent.contains(dependent.getTraceId() + "-" + dependent.getSpanId()), traceParent);
+    }
+
+    @Test
+    void unsampledReconciliationsShouldNotCreateSpansNorPropagateContext() throws Exception {
+        final var tracing = new OpenTelemetryTracing(openTelemetry, configuration(true, 0));
+
+        assertNull(reconcile(tracing, new WorkflowTask(dependentNode())));
+        assertTrue(exporter.getFinishedSpanItems().isEmpty());
+    }
+
+    @Test
+    void disabledTracingShouldNotInstrumentAnything() {
+        final var tracing = new OpenTelemetryTracing(openTelemetry, configuration(false, 1));
+
+        assertSame(reconciliationExecutor, tracing.instrumentReconciliationExecutor(reconciliationExecutor));
+        assertSame(workflowExecutor, tracing.instrumentWorkflowExecutor(workflowExecutor));
+        assertTrue(tracing.clientInterceptor().isEmpty());
+    }
+
+    @Test
+    void invalidSamplingRatioShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new OpenTelemetryTracing(openTelemetry, configuration(true, -0.1)));
+        assertThrows(IllegalArgumentException.class, () -> new OpenTelemetryTracing(openTelemetry, configuration(true, 1.5)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new OpenTelemetryTracing(openTelemetry, configuration(true, Double.NaN)));
+    }
+
+    @Test
+    void dependentNameShouldOnlyBeFoundForWorkflowTasks() {
+        final var node = dependentNode();
+        assertEquals(node.getName(), OpenTelemetryTracing.dependentNameOf(new WorkflowTask(node)));
+        assertNull(OpenTelemetryTracing.dependentNameOf((Runnable) () -> {
+        }));
+    }
+
+    private static DependentResourceNode<ConfigMap, ConfigMap> dependentNode() {
+        return new DependentResourceNode<>("test", null, null, null, new TestDependent());
+    }
+
+    /**
+     * Runs a reconciliation for the "foo" controller which submits the specified workflow task and waits for it
+     *
+     * @return the {@code traceparent} header of a request sent by the workflow task, {@code null} if none was set
+     */
+    private String reconcile(OpenTelemetryTracing tracing, WorkflowTask workflowTask) throws Exception {
+        final var reconciliations = tracing.instrumentReconciliationExecutor(reconciliationExecutor);
+        final var workflows = tracing.instrumentWorkflowExecutor(workflowExecutor);
+        final var interceptor = tracing.clientInterceptor().orElseThrow();
+        final var traceParent = new CompletableFuture<String>();
+        workflowTask.onRun = () -> {
+            final var builder = client.getHttpClient().newHttpRequestBuilder().uri(client.getMasterUrl().toString());
+            interceptor.before(builder, null, null);
+            final var headers = builder.build().headers("traceparent");
+            traceParent.complete(headers.isEmpty() ? null : headers.get(0));
+        };
+        reconciliations.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    workflows.submit(workflowTask).get(5, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    traceParent.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public String toString() {
+                return "foo -> scope";
+            }
+        });
+        final var result = traceParent.get(5, TimeUnit.SECONDS);
+        // wait for the spans to be ended
+        reconciliationExecutor.shutdown();
+        assertTrue(reconciliationExecutor.awaitTermination(5, TimeUnit.SECONDS));
+        workflowExecutor.shutdown();
+        assertTrue(workflowExecutor.awaitTermination(5, TimeUnit.SECONDS));
+        return result;
+    }
+
+    private SpanData span(String name) {
+        return exporter.getFinishedSpanItems().stream()
+                .filter(span -> name.equals(span.getName()))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No span named '" + name + "' in " + exporter.getFinishedSpanItems()));
+    }
+
+    private static TracingConfiguration configuration(boolean enabled, double samplingRatio) {
+        final var configuration = new TracingConfiguration();
+        configuration.enabled = enabled;
+        configuration.samplingRatio = samplingRatio;
+        return configuration;
+    }
+
+    // mimics JOSDK's workflow tasks, which hold the node of the dependent they process
+    private static class WorkflowTask implements Runnable {
+        private final DependentResourceNode<?, ?> dependentResourceNode;
+        private Runnable onRun;
+
+        private WorkflowTask(DependentResourceNode<?, ?> dependentResourceNode) {
+            this.dependentResourceNode = dependentResourceNode;
+        }
+
+        @Override
+        public void run() {
+            onRun.run();
+        }
+    }
+
+    private static class TestDependent implements DependentResource<ConfigMap, ConfigMap> {
+        @Override
+        public ReconcileResult<ConfigMap> reconcile(ConfigMap primary, Context<ConfigMap> context) {
+            return null;
+        }
+
+        @Override
+        public Class<ConfigMap> resourceType() {
+            return ConfigMap.class;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.junit.jupiter.api.Test;
+
+class OperatorHealthSnapshotTest {
+
+    @Test
+    void shouldOnlyReadSnapshotUntilRefreshed() {
+        final var health = new ToggleableHealth();
+        final var snapshot = new OperatorHealthSnapshot(health, Duration.ofDays(1));
+
+        snapshot.refresh();
+        assertEquals(HealthCheckResponse.Status.DOWN, snapshot.get().getStatus());
+
+        // the snapshot isn't recomputed when read
+        health.started = true;
+        assertEquals(HealthCheckResponse.Status.DOWN, snapshot.get().getStatus());
+
+        snapshot.refresh();
+        final var response = snapshot.get();
+        assertEquals(HealthCheckResponse.Status.UP, response.getStatus());
+
+        // the response is reused when the health didn't change
+        snapshot.refresh();
+        assertSame(response, snapshot.get());
+    }
+
+    @Test
+    void shouldRefreshSnapshotPeriodically() throws InterruptedException {
+        final var health = new ToggleableHealth();
+        final var snapshot = new OperatorHealthSnapshot(health, Duration.ofMillis(10));
+        snapshot.refresh();
+        snapshot.startRefreshing();
+        try {
+            health.started = true;
+            final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (snapshot.get().getStatus() != HealthCheckResponse.Status.UP && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(HealthCheckResponse.Status.UP, snapshot.get().getStatus());
+        } finally {
+            snapshot.stopRefreshing();
+        }
+    }
+
+    @Test
+    void shouldComputeHealthWhenReadWithoutMaxAge() {
+        final var health = new ToggleableHealth();
+        final var snapshot = new OperatorHealthSnapshot(health, Duration.ZERO);
+
+        assertEquals(HealthCheckResponse.Status.DOWN, snapshot.get().getStatus());
+        health.started = true;
+        assertEquals(HealthCheckResponse.Status.UP, snapshot.get().getStatus());
+    }
+
+    private static class ToggleableHealth implements Supplier<Map<String, Set<String>>> {
+        private volatile boolean started;
+
+        @Override
+        public Map<String, Set<String>> get() {
+            // no controller is registered so the operator is healthy as soon as it's started
+            return started ? Map.of() : null;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.javaoperatorsdk.operator.api.config.Cloner;
+
+class QuarkusClonerTest {
+
+    @Test
+    void shouldUseSpecificClonerWhenAvailable() {
+        final boolean[] called = { false };
+        final var configMapCloner = new Cloner() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <R extends HasMetadata> R clone(R object) {
+                called[0] = true;
+                return (R) new ConfigMapBuilder((ConfigMap) object).build();
+            }
+        };
+        final var cloner = new QuarkusCloner(Map.of(ConfigMap.class, configMapCloner),
+                new QuarkusCloner.JsonCloner(Serialization.jsonMapper()));
+
+        final var original = new ConfigMapBuilder().withNewMetadata().withName("foo").endMetadata()
+                .addToData("key", "value").build();
+        final var clone = cloner.clone(original);
+        assertTrue(called[0]);
+        assertNotSame(original, clone);
+        assertNotSame(original.getMetadata(), clone.getMetadata());
+        assertEquals(original, clone);
+    }
+
+    @Test
+    void binaryClonerShouldDeepCopy() {
+        final var cloner = new QuarkusCloner.BinaryCloner(Serialization.jsonMapper());
+        final var original = new SecretBuilder().withNewMetadata().withName("foo").addToLabels("label", "value")
+                .endMetadata()
+                .addToStringData("key", "value").build();
+        final var clone = cloner.clone(original);
+        assertNotSame(original, clone);
+        assertNotSame(original.getMetadata().getLabels(), clone.getMetadata().getLabels());
+        assertEquals(original, clone);
+    }
+
+    @Test
+    void shouldResolveClonerFromStrategies() {
+        final var cloner = QuarkusCloner.from(ClonerStrategy.GENERATED,
+                Map.of(Secret.class.getName(), ClonerStrategy.NONE, ConfigMap.class.getName(), ClonerStrategy.JSON),
+                Map.of(), Map.of(), Serialization.jsonMapper());
+
+        // no cloner has been generated so we should fall back to the binary cloner
+        assertInstanceOf(QuarkusCloner.BinaryCloner.class, cloner.clonerFor(HasMetadata.class));
+        assertInstanceOf(QuarkusCloner.JsonCloner.class, cloner.clonerFor(ConfigMap.class));
+        assertSame(QuarkusCloner.NO_CLONING, cloner.clonerFor(Secret.class));
+
+        final var secret = new SecretBuilder().withNewMetadata().withName("foo").endMetadata().build();
+        assertSame(secret, cloner.clone(secret));
+    }
+
+    @Test
+    void copyOnWriteShouldDelegateToResolvedCloner() {
+        final var cloner = QuarkusCloner.from(ClonerStrategy.JSON, Map.of(Secret.class.getName(), ClonerStrategy.NONE),
+                Map.of(), Map.of(ConfigMap.class.getName(), TestCopyOnWriteProxyFactory.class.getName(),
+                        Secret.class.getName(), TestCopyOnWriteProxyFactory.class.getName()),
+                Serialization.jsonMapper());
+
+        // resources that are not cloned shouldn't be proxied
+        assertSame(QuarkusCloner.NO_CLONING, cloner.clonerFor(Secret.class));
+
+        final var original = new ConfigMapBuilder().withNewMetadata().withName("foo").endMetadata().build();
+        final var proxied = cloner.clone(original);
+        assertInstanceOf(QuarkusCloner.CopyOnWriteCloner.class, cloner.clonerFor(ConfigMap.class));
+        assertSame(original, proxied);
+        assertInstanceOf(QuarkusCloner.JsonCloner.class, TestCopyOnWriteProxyFactory.lastCloner);
+    }
+
+    public static class TestCopyOnWriteProxyFactory implements CopyOnWriteProxyFactory {
+        private static Cloner lastCloner;
+
+        @Override
+        public HasMetadata proxy(HasMetadata original, Cloner cloner) {
+            lastCloner = cloner;
+            return original;
+        }
+    }
+}
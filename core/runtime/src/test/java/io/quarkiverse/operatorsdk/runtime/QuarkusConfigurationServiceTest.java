@@ -0,0 +1,114 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.javaoperatorsdk.operator.api.monitoring.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class QuarkusConfigurationServiceTest {
+
+    @Test
+    void workflowThreadsShouldBeHonoredWithoutReconciliationThreads() throws Exception {
+        final var configurationService = configurationService(Map.of(), Map.of("slow", 1));
+        final var reconciliations = configurationService.getExecutorService();
+        final var workflows = configurationService.getWorkflowExecutorService();
+        try {
+            final var started = new CountDownLatch(1);
+            final var release = new CountDownLatch(1);
+            final var activeThreads = new CompletableFuture<Integer>();
+            reconciliations.execute(reconciliation("slow -> scope", () -> {
+                final var nested = workflows.submit(() -> {
+                    started.countDown();
+                    return release.await(5, TimeUnit.SECONDS);
+                });
+                started.await(5, TimeUnit.SECONDS);
+                final var statistics = configurationService.getWorkflowExecutorStatistics().get("slow");
+                activeThreads.complete(statistics != null ? statistics.getActiveThreads() : 0);
+                release.countDown();
+                nested.get(5, TimeUnit.SECONDS);
+            }));
+
+            // the workflow task should run on the controller's dedicated executor even though reconciliations don't
+            // use a dedicated executor
+            assertEquals(1, activeThreads.get(5, TimeUnit.SECONDS));
+            assertTrue(configurationService.getReconciliationExecutorStatistics().isEmpty());
+        } finally {
+            reconciliations.shutdownNow();
+            workflows.shutdownNow();
+        }
+    }
+
+    @Test
+    void executorStatisticsShouldBeExposedAsGauges() {
+        final var configurationService = configurationService(Map.of("slow", 2), Map.of("slow", 3));
+        final var reconciliations = configurationService.getExecutorService();
+        final var workflows = configurationService.getWorkflowExecutorService();
+        try {
+            final var registry = new SimpleMeterRegistry();
+            ExecutorMetricsBinder.bindTo(registry, ExecutorMetricsBinder.RECONCILIATION_EXECUTOR,
+                    configurationService.getReconciliationExecutorStatistics());
+            ExecutorMetricsBinder.bindTo(registry, ExecutorMetricsBinder.WORKFLOW_EXECUTOR,
+                    configurationService.getWorkflowExecutorStatistics());
+
+            assertEquals(2, maxThreads(registry, ExecutorMetricsBinder.RECONCILIATION_EXECUTOR));
+            assertEquals(3, maxThreads(registry, ExecutorMetricsBinder.WORKFLOW_EXECUTOR));
+            assertEquals(0, registry.get(ExecutorMetricsBinder.QUEUE_DEPTH_METRIC_NAME)
+                    .tags("controller", "slow", "executor", ExecutorMetricsBinder.WORKFLOW_EXECUTOR).gauge().value());
+            assertEquals(0, registry.get(ExecutorMetricsBinder.ACTIVE_THREADS_METRIC_NAME)
+                    .tags("controller", "slow", "executor", ExecutorMetricsBinder.RECONCILIATION_EXECUTOR).gauge().value());
+        } finally {
+            reconciliations.shutdownNow();
+            workflows.shutdownNow();
+        }
+    }
+
+    private static double maxThreads(SimpleMeterRegistry registry, String executor) {
+        return registry.get(ExecutorMetricsBinder.MAX_THREADS_METRIC_NAME)
+                .tags("controller", "slow", "executor", executor).gauge().value();
+    }
+
+    private static QuarkusConfigurationService configurationService(Map<String, Integer> reconciliationThreads,
+            Map<String, Integer> workflowThreads) {
+        final var now = new Date();
+        return new QuarkusConfigurationService(
+                new Version(Version.UNKNOWN, now, Version.UNKNOWN, Version.UNKNOWN, Version.UNKNOWN, now),
+                null, null, new CRDGenerationInfo(false, false, Map.of(), Set.of(), 0),
+                2, 2, 0, Duration.ofMinutes(2), ExecutorType.PLATFORM, null, reconciliationThreads, workflowThreads,
+                List.of(), Metrics.NOOP, false, null, null, null, null, false, true);
+    }
+
+    private interface Task {
+        void run() throws Exception;
+    }
+
+    // mimics JOSDK's reconciliation tasks, which are described as "<controller name> -> <execution scope>"
+    private static Runnable reconciliation(String description, Task task) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            @Override
+            public String toString() {
+                return description;
+            }
+        };
+    }
+}
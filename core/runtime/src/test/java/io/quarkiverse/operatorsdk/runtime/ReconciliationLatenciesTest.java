@@ -0,0 +1,57 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import static io.quarkiverse.operatorsdk.runtime.ReconciliationLatencies.Stage.ENQUEUE;
+import static io.quarkiverse.operatorsdk.runtime.ReconciliationLatencies.Stage.EXECUTION;
+import static io.quarkiverse.operatorsdk.runtime.ReconciliationLatencies.Stage.QUEUED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class ReconciliationLatenciesTest {
+
+    @Test
+    void shouldSplitLatencyIntoStages() {
+        final var now = new AtomicLong();
+        final List<String> recorded = new ArrayList<>();
+        final var latencies = new ReconciliationLatencies(
+                (stage, controller, nanos) -> recorded.add(stage + " " + controller + " " + nanos), now::get);
+
+        latencies.eventReceived("foo", "ns/a");
+        now.set(5);
+        // events received before the reconciliation is submitted are accounted from the first one
+        latencies.eventReceived("foo", "ns/a");
+        now.set(10);
+        latencies.enqueued("foo", "ns/a");
+        now.set(30);
+        latencies.started("foo", "ns/a");
+        now.set(40);
+        // event received while the reconciliation runs, it will be processed by the next one
+        latencies.eventReceived("foo", "ns/a");
+        now.set(100);
+        latencies.finished("foo", "ns/a");
+
+        assertEquals(List.of(ENQUEUE + " foo 10", QUEUED + " foo 20", EXECUTION + " foo 70"), recorded);
+        assertEquals(1, latencies.trackedResources());
+
+        now.set(110);
+        latencies.enqueued("foo", "ns/a");
+        assertEquals(ENQUEUE + " foo 70", recorded.get(3));
+        latencies.started("foo", "ns/a");
+        latencies.finished("foo", "ns/a");
+        assertEquals(0, latencies.trackedResources());
+    }
+
+    @Test
+    void shouldForgetRemovedResources() {
+        final var latencies = new ReconciliationLatencies((stage, controller, nanos) -> {
+        });
+        latencies.eventReceived("foo", "ns/a");
+        latencies.eventReceived("bar", "ns/a");
+        latencies.removed("foo", "ns/a");
+        assertEquals(1, latencies.trackedResources());
+    }
+}
@@ -0,0 +1,120 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.StandardHttpRequest;
+import io.quarkiverse.operatorsdk.runtime.RequestBudget.Priority;
+
+class RequestBudgetTest {
+
+    @Test
+    void shouldReserveTokensForHigherPriorityRequests() {
+        // 10 tokens, 4 of which are reserved: bulk requests can use 6, normal ones 8 and critical ones all 10
+        final var budget = new RequestBudget(1, 10, 0.4);
+        final var now = System.nanoTime() + 1;
+        for (int i = 0; i < 6; i++) {
+            assertEquals(0, budget.tryAcquire(Priority.BULK, now));
+        }
+        assertTrue(budget.tryAcquire(Priority.BULK, now) > 0);
+        for (int i = 0; i < 2; i++) {
+            assertEquals(0, budget.tryAcquire(Priority.NORMAL, now));
+        }
+        assertTrue(budget.tryAcquire(Priority.NORMAL, now) > 0);
+        for (int i = 0; i < 2; i++) {
+            assertEquals(0, budget.tryAcquire(Priority.CRITICAL, now));
+        }
+        assertTrue(budget.tryAcquire(Priority.CRITICAL, now) > 0);
+
+        // one token is refilled every second
+        assertEquals(0, budget.tryAcquire(Priority.CRITICAL, now + 2_000_000_000L));
+    }
+
+    @Test
+    void shouldRejectReserveLeavingNoRoomForBulkRequests() {
+        assertThrows(IllegalArgumentException.class, () -> new RequestBudget(10, 2, 0.6));
+    }
+
+    @Test
+    void shouldClassifyRequests() {
+        final var base = "https://localhost/apis/example.com/v1/namespaces/default/foos/foo";
+        assertNull(RequestBudgetInterceptor.priorityOf("GET",
+                URI.create("https://localhost/apis/example.com/v1/foos?watch=true"), null));
+        assertEquals(Priority.NORMAL, RequestBudgetInterceptor.priorityOf("GET", URI.create(base), null));
+        assertEquals(Priority.NORMAL, RequestBudgetInterceptor.priorityOf("DELETE", URI.create(base), null));
+        assertEquals(Priority.BULK, RequestBudgetInterceptor.priorityOf("POST", URI.create(base), "application/json"));
+        assertEquals(Priority.BULK,
+                RequestBudgetInterceptor.priorityOf("PATCH", URI.create(base), "application/apply-patch+yaml"));
+        assertEquals(Priority.CRITICAL,
+                RequestBudgetInterceptor.priorityOf("PATCH", URI.create(base + "/status"), "application/apply-patch+yaml"));
+        assertEquals(Priority.CRITICAL,
+                RequestBudgetInterceptor.priorityOf("PATCH", URI.create(base), "application/merge-patch+json"));
+        assertEquals(Priority.CRITICAL, RequestBudgetInterceptor.priorityOf("PUT", URI.create(base), "application/json"));
+    }
+
+    @Test
+    void shouldClassifyPatchesFromTheirBodyContentType() {
+        final var base = "https://localhost/apis/example.com/v1/namespaces/default/foos/foo";
+        final var apply = new StandardHttpRequest.Builder().uri(base).patch("application/apply-patch+yaml", "{}").build();
+        assertEquals("application/apply-patch+yaml", RequestBudgetInterceptor.contentTypeOf(apply));
+        assertEquals(Priority.BULK, priorityOf(apply));
+
+        final var statusApply = new StandardHttpRequest.Builder().uri(base + "/status")
+                .patch("application/apply-patch+yaml", "{}").build();
+        assertEquals(Priority.CRITICAL, priorityOf(statusApply));
+
+        final var merge = new StandardHttpRequest.Builder().uri(base).patch("application/merge-patch+json", "{}").build();
+        assertEquals(Priority.CRITICAL, priorityOf(merge));
+
+        final var get = new StandardHttpRequest.Builder().uri(base).build();
+        assertNull(RequestBudgetInterceptor.contentTypeOf(get));
+        assertEquals(Priority.NORMAL, priorityOf(get));
+    }
+
+    private static Priority priorityOf(HttpRequest request) {
+        return RequestBudgetInterceptor.priorityOf(request.method(), request.uri(),
+                RequestBudgetInterceptor.contentTypeOf(request));
+    }
+
+    @Test
+    void shouldOnlyLimitRequestsSentFromOperatorTasks() throws Exception {
+        // a single token refilled every second: once taken, limited requests have to wait
+        final var budget = new RequestBudget(1, 1, 0);
+        final var interceptor = new RequestBudgetInterceptor(budget);
+        final var uri = URI.create("https://localhost/apis/example.com/v1/namespaces/default/foos");
+        final var executor = interceptor.instrumentReconciliationExecutor(Executors.newSingleThreadExecutor());
+        try {
+            assertEquals(0, budget.tryAcquire(Priority.BULK, System.nanoTime()));
+
+            // requests sent from other threads, e.g. informers, are not limited and never block
+            final var start = System.nanoTime();
+            for (int i = 0; i < 10; i++) {
+                interceptor.acquire("POST", uri, "application/json");
+            }
+            assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(500));
+
+            final var sent = new CompletableFuture<Void>();
+            executor.execute(() -> {
+                interceptor.acquire("POST", uri, "application/json");
+                sent.complete(null);
+            });
+            assertThrows(TimeoutException.class, () -> sent.get(100, TimeUnit.MILLISECONDS));
+            assertFalse(sent.isDone());
+            sent.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
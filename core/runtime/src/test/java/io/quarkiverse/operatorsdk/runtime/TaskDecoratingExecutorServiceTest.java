@@ -0,0 +1,75 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class TaskDecoratingExecutorServiceTest {
+
+    @Test
+    void decoratedTasksShouldKeepTheirDescription() throws Exception {
+        final var shared = Executors.newSingleThreadExecutor();
+        final var sharedThread = shared.submit(() -> Thread.currentThread().getName()).get();
+        final var reconciliations = ControllerExecutorService.forReconciliations(ExecutorType.PLATFORM, shared,
+                Map.of("slow", 1));
+        final List<String> events = new ArrayList<>();
+        final var executor = new TaskDecoratingExecutorService(reconciliations, task -> () -> {
+            events.add("before " + task);
+            task.run();
+        });
+        try {
+            final var thread = new CompletableFuture<String>();
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    thread.complete(Thread.currentThread().getName());
+                }
+
+                @Override
+                public String toString() {
+                    return "slow -> scope";
+                }
+            });
+            // the task should still be dispatched to the executor dedicated to its controller
+            assertNotEquals(sharedThread, thread.get(5, TimeUnit.SECONDS));
+            assertEquals(List.of("before slow -> scope"), events);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void submittedTasksShouldBeAvailableToDecorator() throws Exception {
+        final var submitted = new CompletableFuture<Object>();
+        final var executor = new TaskDecoratingExecutorService(Executors.newSingleThreadExecutor(), task -> {
+            submitted.complete(TaskDecoratingExecutorService.submittedTask(task));
+            assertEquals("task", task.toString());
+            return task;
+        });
+        try {
+            final Runnable task = new Runnable() {
+                @Override
+                public void run() {
+                }
+
+                @Override
+                public String toString() {
+                    return "task";
+                }
+            };
+            executor.submit(task).get(5, TimeUnit.SECONDS);
+            assertSame(task, submitted.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
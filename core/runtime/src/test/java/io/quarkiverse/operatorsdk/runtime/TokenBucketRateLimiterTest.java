@@ -0,0 +1,23 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketRateLimiterTest {
+
+    @Test
+    void shouldAllowBurstsThenLimit() {
+        final var limiter = new TokenBucketRateLimiter(Duration.ofHours(1), 1, 3);
+        final var state = limiter.initState();
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.isLimited(state).isEmpty());
+        }
+
+        // bucket is empty, next token should become available in about an hour
+        final var delay = limiter.isLimited(state).orElseThrow();
+        assertTrue(delay.compareTo(Duration.ofMinutes(59)) > 0 && delay.compareTo(Duration.ofHours(1)) <= 0);
+    }
+}
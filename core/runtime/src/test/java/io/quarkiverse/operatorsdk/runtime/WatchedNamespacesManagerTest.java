@@ -0,0 +1,125 @@
+package io.quarkiverse.operatorsdk.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.microprofile.config.Config;
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.javaoperatorsdk.operator.RegisteredController;
+import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
+import io.javaoperatorsdk.operator.health.ControllerHealthInfo;
+import io.javaoperatorsdk.operator.processing.retry.GenericRetry;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+class WatchedNamespacesManagerTest {
+
+    @Test
+    void changingToTheSameNamespacesShouldBeANoOp() {
+        final var controller = new RecordingRegisteredController("foo", Set.of("ns1", "ns2"));
+        final var manager = manager(controller);
+
+        assertFalse(manager.changeNamespaces("foo", Set.of("ns2", "ns1")));
+        assertTrue(controller.changes.isEmpty());
+        assertEquals(Set.of("ns1", "ns2"), manager.getNamespaces("foo"));
+    }
+
+    @Test
+    void changingNamespacesShouldUpdateControllerAndConfiguration() {
+        final var controller = new RecordingRegisteredController("foo", Set.of("ns1"));
+        final var manager = manager(controller);
+
+        assertTrue(manager.changeNamespaces("foo", Set.of("ns1", "ns2")));
+        assertEquals(List.of(Set.of("ns1", "ns2")), controller.changes);
+        assertEquals(Set.of("ns1", "ns2"), manager.getNamespaces("foo"));
+    }
+
+    @Test
+    void unknownControllerShouldBeRejected() {
+        final var manager = manager(new RecordingRegisteredController("foo", Set.of("ns1")));
+
+        final var e = assertThrows(IllegalArgumentException.class, () -> manager.changeNamespaces("bar", Set.of("ns1")));
+        assertTrue(e.getMessage().contains("'bar'"));
+        assertThrows(IllegalArgumentException.class, () -> manager.getNamespaces("bar"));
+    }
+
+    @Test
+    void controllerSpecificNamespacesShouldTakePrecedence() {
+        final var config = config(Map.of(
+                "quarkus.operator-sdk.namespaces", "operator-ns",
+                "quarkus.operator-sdk.controllers.foo.namespaces", "foo-ns1,foo-ns2",
+                "quarkus.operator-sdk.controllers.\"bar.example.com\".namespaces", "bar-ns"));
+
+        assertEquals(Optional.of(Set.of("foo-ns1", "foo-ns2")), WatchedNamespacesManager.configuredNamespaces(config, "foo"));
+        assertEquals(Optional.of(Set.of("bar-ns")),
+                WatchedNamespacesManager.configuredNamespaces(config, "bar.example.com"));
+        assertEquals(Optional.of(Set.of("operator-ns")), WatchedNamespacesManager.configuredNamespaces(config, "baz"));
+        assertEquals(Optional.empty(), WatchedNamespacesManager.configuredNamespaces(config(Map.of()), "foo"));
+    }
+
+    @Test
+    void refreshingShouldOnlyChangeControllersWhoseConfiguredNamespacesChanged() {
+        final var foo = new RecordingRegisteredController("foo", Set.of("foo-ns"));
+        final var bar = new RecordingRegisteredController("bar", Set.of("operator-ns"));
+        final var baz = new RecordingRegisteredController("baz", Set.of("baz-ns"));
+        final var manager = manager(foo, bar, baz);
+
+        manager.refreshFrom(config(Map.of(
+                "quarkus.operator-sdk.namespaces", "operator-ns",
+                "quarkus.operator-sdk.controllers.foo.namespaces", "foo-ns,other-ns")));
+
+        assertEquals(List.of(Set.of("foo-ns", "other-ns")), foo.changes);
+        assertTrue(bar.changes.isEmpty());
+        assertEquals(List.of(Set.of("operator-ns")), baz.changes);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static WatchedNamespacesManager manager(RecordingRegisteredController... controllers) {
+        final Set<RegisteredController> registered = Set.of(controllers);
+        return new WatchedNamespacesManager(() -> registered, Optional.empty());
+    }
+
+    private static Config config(Map<String, String> properties) {
+        return new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(properties, "test", 100))
+                .build();
+    }
+
+    private static class RecordingRegisteredController implements RegisteredController<ConfigMap> {
+        private final QuarkusControllerConfiguration<ConfigMap> configuration;
+        private final List<Set<String>> changes = new ArrayList<>();
+
+        private RecordingRegisteredController(String name, Set<String> namespaces) {
+            this.configuration = new QuarkusControllerConfiguration<>(name + "Reconciler", name,
+                    HasMetadata.getFullResourceName(ConfigMap.class), "v1", true, ConfigMap.class, namespaces, true,
+                    null, null, true, null, null, null, null, null, GenericRetry.class, null,
+                    QuarkusControllerConfiguration.DefaultRateLimiter.class, null, Map.of(), null, false);
+        }
+
+        @Override
+        public ControllerConfiguration<ConfigMap> getConfiguration() {
+            return configuration;
+        }
+
+        @Override
+        public ControllerHealthInfo getControllerHealthInfo() {
+            return null;
+        }
+
+        @Override
+        public void changeNamespaces(Set<String> namespaces) {
+            changes.add(namespaces);
+        }
+    }
+}
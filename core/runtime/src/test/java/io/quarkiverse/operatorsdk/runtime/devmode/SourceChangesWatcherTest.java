@@ -0,0 +1,107 @@
+package io.quarkiverse.operatorsdk.runtime.devmode;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SourceChangesWatcherTest {
+
+    private static final Duration DEBOUNCE = Duration.ofMillis(300);
+
+    @TempDir
+    Path dir;
+
+    private final AtomicInteger notifications = new AtomicInteger();
+    private final Semaphore notified = new Semaphore(0);
+    private SourceChangesWatcher watcher;
+
+    @AfterEach
+    void stopWatching() throws IOException {
+        if (watcher != null) {
+            watcher.close();
+        }
+    }
+
+    @Test
+    void changesHappeningWithinDebouncePeriodShouldOnlyNotifyOnce() throws Exception {
+        watch();
+
+        for (int i = 0; i < 5; i++) {
+            Files.writeString(dir.resolve("Reconciler" + i + ".java"), "class Reconciler" + i + " {}");
+            Thread.sleep(DEBOUNCE.toMillis() / 5);
+        }
+
+        assertTrue(notified.tryAcquire(5, TimeUnit.SECONDS));
+        // leave time for any extra notification to happen
+        Thread.sleep(DEBOUNCE.toMillis() * 3);
+        assertEquals(1, notifications.get());
+    }
+
+    @Test
+    void changesHappeningAfterDebouncePeriodShouldNotifyAgain() throws Exception {
+        watch();
+
+        Files.writeString(dir.resolve("Reconciler.java"), "class Reconciler {}");
+        assertTrue(notified.tryAcquire(5, TimeUnit.SECONDS));
+        Files.writeString(dir.resolve("Reconciler.java"), "class Reconciler { }");
+        assertTrue(notified.tryAcquire(5, TimeUnit.SECONDS));
+        assertEquals(2, notifications.get());
+    }
+
+    @Test
+    void hiddenAndBackupFilesShouldBeIgnored() throws Exception {
+        final var hiddenDir = Files.createDirectory(dir.resolve(".idea"));
+        watch();
+
+        Files.writeString(dir.resolve(".Reconciler.java.swp"), "swap");
+        Files.writeString(dir.resolve("Reconciler.java~"), "backup");
+        Files.writeString(hiddenDir.resolve("workspace.xml"), "<project/>");
+        assertFalse(notified.tryAcquire(DEBOUNCE.toMillis() * 4, TimeUnit.MILLISECONDS));
+
+        Files.writeString(dir.resolve("Reconciler.java"), "class Reconciler {}");
+        assertTrue(notified.tryAcquire(5, TimeUnit.SECONDS));
+        assertEquals(1, notifications.get());
+    }
+
+    @Test
+    void changesInNewDirectoriesShouldBeWatched() throws Exception {
+        watch();
+
+        final var created = Files.createDirectory(dir.resolve("sub"));
+        assertTrue(notified.tryAcquire(5, TimeUnit.SECONDS));
+        Files.writeString(created.resolve("Reconciler.java"), "class Reconciler {}");
+        assertTrue(notified.tryAcquire(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldIdentifyRelevantPaths() {
+        assertTrue(SourceChangesWatcher.isRelevant(Path.of("src", "main", "java", "Reconciler.java")));
+        assertTrue(SourceChangesWatcher.isRelevant(Path.of("application.properties")));
+        assertFalse(SourceChangesWatcher.isRelevant(Path.of("src", ".Reconciler.java.swp")));
+        assertFalse(SourceChangesWatcher.isRelevant(Path.of("Reconciler.java~")));
+        assertFalse(SourceChangesWatcher.isRelevant(Path.of(".git")));
+    }
+
+    private void watch() throws IOException {
+        watcher = new SourceChangesWatcher(List.of(dir), DEBOUNCE, () -> {
+            notifications.incrementAndGet();
+            notified.release();
+        });
+        final var thread = new Thread(watcher, "source-changes-watcher-test");
+        thread.setDaemon(true);
+        thread.start();
+    }
+}
@@ -0,0 +1,18 @@
+package io.quarkiverse.operatorsdk.samples.pingpong;
+
+import io.quarkus.test.kubernetes.client.KubernetesServerTestResource;
+
+/**
+ * Mock API server running in CRUD mode so that the operator can run against it without a real cluster, mirroring the
+ * integration tests' {@code CustomKubernetesServerTestResource}.
+ */
+public class MockKubernetesServerTestResource extends KubernetesServerTestResource {
+
+    @Override
+    protected void configureServer() {
+        super.configureServer();
+
+        server.expect().get().withPath("/version")
+                .andReturn(200, "{\"major\": \"13\", \"minor\": \"37\"}").always();
+    }
+}
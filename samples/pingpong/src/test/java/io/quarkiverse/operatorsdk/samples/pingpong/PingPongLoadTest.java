@@ -0,0 +1,156 @@
+package io.quarkiverse.operatorsdk.samples.pingpong;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.javaoperatorsdk.operator.Operator;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+/**
+ * Measures reconciliation throughput by creating many {@link Ping} resources against a mock API server and waiting for
+ * {@link PingReconciler} to process them all. Latency is measured from the moment a resource is created to the moment its
+ * processed status is observed.
+ * <p>
+ * Only runs when the {@code load-tests} system property is set to {@code true}, e.g.:
+ * {@code mvn verify -pl samples/pingpong -Dload-tests=true -Dload-tests.resources=5000 -Dtest=PingPongLoadTest}. Thread
+ * pools can be tuned using the usual properties, e.g. {@code -Dquarkus.operator-sdk.concurrent-reconciliation-threads=20}.
+ * Results are logged and written as JSON to {@code target/load-test-result.json}.
+ */
+@QuarkusTest
+@TestProfile(PingPongLoadTest.LoadTestProfile.class)
+@QuarkusTestResource(MockKubernetesServerTestResource.class)
+@EnabledIfSystemProperty(named = "load-tests", matches = "true")
+class PingPongLoadTest {
+
+    private static final Logger log = Logger.getLogger(PingPongLoadTest.class);
+    private static final int RESOURCES = Integer.getInteger("load-tests.resources", 1000);
+    private static final Path RESULT = Path.of("target", "load-test-result.json");
+
+    @Inject
+    Operator operator;
+
+    @Inject
+    KubernetesClient client;
+
+    @Test
+    void reconciliationThroughput() throws IOException {
+        operator.start();
+
+        final var created = new ConcurrentHashMap<String, Long>(RESOURCES);
+        final var processed = new ConcurrentHashMap<String, Long>(RESOURCES);
+        final var pings = client.resources(Ping.class).inNamespace(client.getNamespace());
+        final var informer = pings.inform(new ResourceEventHandler<>() {
+            @Override
+            public void onAdd(Ping ping) {
+                recordIfProcessed(ping);
+            }
+
+            @Override
+            public void onUpdate(Ping oldPing, Ping newPing) {
+                recordIfProcessed(newPing);
+            }
+
+            @Override
+            public void onDelete(Ping ping, boolean deletedFinalStateUnknown) {
+            }
+
+            private void recordIfProcessed(Ping ping) {
+                final var status = ping.getStatus();
+                if (status != null && Status.State.PROCESSED == status.getState()) {
+                    processed.putIfAbsent(ping.getMetadata().getName(), System.nanoTime());
+                }
+            }
+        });
+
+        final var threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        final var start = System.nanoTime();
+        for (int i = 0; i < RESOURCES; i++) {
+            final var name = "load-ping-" + i;
+            final var ping = new Ping();
+            ping.setMetadata(new ObjectMetaBuilder().withName(name).build());
+            created.put(name, System.nanoTime());
+            pings.resource(ping).create();
+        }
+
+        try {
+            await().atMost(10, MINUTES).pollInterval(100, TimeUnit.MILLISECONDS)
+                    .until(() -> processed.size() == RESOURCES);
+        } finally {
+            informer.stop();
+        }
+        final var end = processed.values().stream().mapToLong(Long::longValue).max().orElse(start);
+        assertThat(processed.size(), is(RESOURCES));
+
+        final var latencies = new long[RESOURCES];
+        int i = 0;
+        for (var entry : processed.entrySet()) {
+            latencies[i++] = entry.getValue() - created.get(entry.getKey());
+        }
+        Arrays.sort(latencies);
+
+        final var elapsedSeconds = (end - start) / 1e9;
+        final var heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        final var result = new LinkedHashMap<String, Object>();
+        result.put("resources", RESOURCES);
+        result.put("elapsedSeconds", elapsedSeconds);
+        result.put("reconcilesPerSecond", RESOURCES / elapsedSeconds);
+        result.put("p50LatencyMillis", percentile(latencies, 0.50));
+        result.put("p99LatencyMillis", percentile(latencies, 0.99));
+        result.put("maxLatencyMillis", TimeUnit.NANOSECONDS.toMillis(latencies[latencies.length - 1]));
+        result.put("heapUsedBytes", heap.getUsed());
+        result.put("heapCommittedBytes", heap.getCommitted());
+        result.put("threadCount", threads.getThreadCount());
+        result.put("peakThreadCount", threads.getPeakThreadCount());
+        report(result);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        final var index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return TimeUnit.NANOSECONDS.toMillis(sorted[Math.max(index, 0)]);
+    }
+
+    private static void report(Map<String, Object> result) throws IOException {
+        final var json = new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(result);
+        log.infof("Reconciliation load test results:%n%s", json);
+        Files.createDirectories(RESULT.getParent());
+        Files.writeString(RESULT, json);
+    }
+
+    public static class LoadTestProfile implements QuarkusTestProfile {
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    "quarkus.kubernetes-client.devservices.enabled", "false",
+                    "quarkus.operator-sdk.start-operator", "false",
+                    "quarkus.operator-sdk.crd.apply", "true");
+        }
+    }
+}